@@ -3,7 +3,8 @@ package Algorithms.GraphSearch;
 import DataStructures.Graphs.AdjacencyListGraph.Graph;
 import DataStructures.Graphs.AdjacencyListGraph.GraphNode;
 import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
-import DataStructures.Queues.QueueList;
+import DataStructures.Queues.QueueListMethods;
+import DataStructures.Queues.RingBufferQueue;
 
 /**
  * Abstract class that represents the Breadth First Search Algorithm
@@ -20,7 +21,7 @@ public abstract class BreadthFirstSearch
      * @return the search path of the process
      */
     private static <graph_t> SimplyLinkedList<GraphNode<graph_t>> solveForSearchPath(
-        QueueList<GraphNode<graph_t>> queue, SimplyLinkedList<GraphNode<graph_t>> visitedNodes) 
+        QueueListMethods<GraphNode<graph_t>> queue, SimplyLinkedList<GraphNode<graph_t>> visitedNodes) 
     {
         SimplyLinkedList<GraphNode<graph_t>> searchPath = new SimplyLinkedList<>(); // Create list to store the path of the search process
 
@@ -48,7 +49,7 @@ public abstract class BreadthFirstSearch
      * @param visitedNodes the supported list data structure
      */
     private static <graph_t> void solveForShortestPath(
-        Graph<graph_t> graph, QueueList<GraphNode<graph_t>> queue, SimplyLinkedList<GraphNode<graph_t>> visitedNodes, GraphNode<graph_t>[] previousNode)
+        Graph<graph_t> graph, QueueListMethods<GraphNode<graph_t>> queue, SimplyLinkedList<GraphNode<graph_t>> visitedNodes, GraphNode<graph_t>[] previousNode)
     {
         // BFS execution
         while (queue.getSize() != 0)
@@ -78,8 +79,8 @@ public abstract class BreadthFirstSearch
         GraphNode<graph_t> startingNode = graph.getNodeOfData(data);
 
         // Initialize the appropriate data structures for the search process
-        SimplyLinkedList<GraphNode<graph_t>> visitedNodes = new SimplyLinkedList<>();
-        QueueList<GraphNode<graph_t>> queue = new QueueList<>();
+        SimplyLinkedList<GraphNode<graph_t>> visitedNodes = new SimplyLinkedList<>(SimplyLinkedList.LookupMode.HASHED);
+        QueueListMethods<GraphNode<graph_t>> queue = new RingBufferQueue<>();
 
         // Add the starting node to the structures
         visitedNodes.insertDataAtEnd(startingNode);
@@ -104,8 +105,8 @@ public abstract class BreadthFirstSearch
         GraphNode<graph_t> endingNode = graph.getNodeOfData(endData);
         
         // Initialize the appropriate data structures for the search process
-        SimplyLinkedList<GraphNode<graph_t>> visitedNodes = new SimplyLinkedList<>();
-        QueueList<GraphNode<graph_t>> queue = new QueueList<>();
+        SimplyLinkedList<GraphNode<graph_t>> visitedNodes = new SimplyLinkedList<>(SimplyLinkedList.LookupMode.HASHED);
+        QueueListMethods<GraphNode<graph_t>> queue = new RingBufferQueue<>();
 
         // Add the starting node to the structures
         visitedNodes.insertDataAtEnd(startingNode);
@@ -125,13 +126,13 @@ public abstract class BreadthFirstSearch
         SimplyLinkedList<GraphNode<graph_t>> shortestPath = new SimplyLinkedList<>();
         GraphNode<graph_t> at = endingNode;
 
-        // Loop through the parent of each node in the hierarchy
+        // Loop through the parent of each node in the hierarchy, prepending it so the path needs no reversal
         while (at != null) {
-            shortestPath.insertDataAtEnd(at);
+            shortestPath.insertDataAtStart(at);
             at = previousNode[graph.getNodeIndex(at)];
         }
         
-        return shortestPath.getReveresedVersion();
+        return shortestPath;
     }
 
     /**
@@ -3,7 +3,8 @@ package Algorithms.GraphSearch;
 import DataStructures.Graphs.AdjacencyListGraph.Graph;
 import DataStructures.Graphs.AdjacencyListGraph.GraphNode;
 import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
-import DataStructures.Stacks.StackList;
+import DataStructures.Stacks.ArrayStack;
+import DataStructures.Stacks.StackListMethods;
 
 /**
  * Abstract class that represents the Depth First Search Algorithm
@@ -25,8 +26,8 @@ public class DepthFirstSearch
         GraphNode<graph_t> startingNode = graph.getNodeOfData(data);
 
         // Initialize the appropriate data structures for the search process
-        SimplyLinkedList<GraphNode<graph_t>> visitedNodes = new SimplyLinkedList<>();
-        StackList<GraphNode<graph_t>> stack = new StackList<>();
+        SimplyLinkedList<GraphNode<graph_t>> visitedNodes = new SimplyLinkedList<>(SimplyLinkedList.LookupMode.HASHED);
+        StackListMethods<GraphNode<graph_t>> stack = new ArrayStack<>();
 
         // Add the starting node to the structures
         visitedNodes.insertDataAtEnd(startingNode);
@@ -0,0 +1,200 @@
+package Algorithms.GraphSearch;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Random;
+
+import DataStructures.Graphs.AdjacencyListGraph.Graph;
+import DataStructures.Graphs.AdjacencyListGraph.GraphEdge;
+import DataStructures.Graphs.AdjacencyListGraph.GraphNode;
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
+import DataStructures.Queues.IndexedMinPriorityQueue;
+import DataStructures.Queues.IndexedPairingHeap;
+import DataStructures.Queues.IndexedPriorityQueueMethods;
+
+/**
+ * Abstract class that represents Dijkstra's Shortest Path Algorithm. The nodes of the graph are numbered once, so
+ * the distances live in arrays and the frontier is an indexed priority queue that lowers the key of a node instead
+ * of pushing it again
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public abstract class DijkstraSearch
+{
+    /**
+     * Returns the length of the given edge, which is its weight on weighted graphs and one otherwise
+     * @param <graph_t> the graph data type
+     * @param edge the edge to measure
+     * @return the length of the edge
+     */
+    private static <graph_t> double lengthOf(GraphEdge<graph_t> edge)
+    {
+        if (edge.getEndNode().connectionMode == GraphNode.ConnectionMode.UNWEIGHTED) {
+            return 1;
+        }
+
+        if (edge.getWeight() < 0) {
+            throw new IllegalArgumentException("Dijkstra's algorithm needs non-negative weights, got " + edge.getWeight());
+        }
+        return edge.getWeight();
+    }
+
+    /**
+     * Returns the shortest path between two nodes in the graph, according to their data, using a binary heap
+     * @param <graph_t> graph data type
+     * @param graph the graph to search in
+     * @param startData the data of the starting node
+     * @param endData the data of the end node
+     * @return a list containing the shortest path between the two nodes, empty if there is no path
+     */
+    public static <graph_t> SimplyLinkedList<GraphNode<graph_t>> shortestPathBetween(Graph<graph_t> graph, graph_t startData, graph_t endData) {
+        return DijkstraSearch.shortestPathBetween(graph, startData, endData, new IndexedMinPriorityQueue(graph.getSize()));
+    }
+
+    /**
+     * Returns the shortest path between two nodes in the graph, according to their data, using the given queue
+     * @param <graph_t> graph data type
+     * @param graph the graph to search in
+     * @param startData the data of the starting node
+     * @param endData the data of the end node
+     * @param queue the supporting empty queue, with room for an id per node of the graph
+     * @return a list containing the shortest path between the two nodes, empty if there is no path
+     */
+    public static <graph_t> SimplyLinkedList<GraphNode<graph_t>> shortestPathBetween(
+        Graph<graph_t> graph, graph_t startData, graph_t endData, IndexedPriorityQueueMethods queue)
+    {
+        if (!queue.isEmpty() || queue.getCapacity() < graph.getSize()) {
+            throw new IllegalArgumentException("The queue must be empty and hold " + graph.getSize() + " ids");
+        }
+
+        SimplyLinkedList<GraphNode<graph_t>> shortestPath = new SimplyLinkedList<>();
+
+        // Get the nodes containing the given data
+        GraphNode<graph_t> startingNode = graph.getNodeOfData(startData);
+        GraphNode<graph_t> endingNode = graph.getNodeOfData(endData);
+
+        if (startingNode == null || endingNode == null) {
+            return shortestPath;
+        }
+
+        // Number the nodes once, so the search never has to look up an index in the list of nodes
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        GraphNode<graph_t>[] nodes = new GraphNode[graph.getSize()];
+        IdentityHashMap<GraphNode<graph_t>, Integer> ids = new IdentityHashMap<>(2 * nodes.length);
+
+        int numberOfNodes = 0;
+        for (GraphNode<graph_t> node : graph.getNodes()) {
+            ids.put(node, numberOfNodes);
+            nodes[numberOfNodes++] = node;
+        }
+
+        double[] distances = new double[numberOfNodes];
+        int[] previousNode = new int[numberOfNodes];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(previousNode, -1);
+
+        int startId = ids.get(startingNode), endId = ids.get(endingNode);
+        distances[startId] = 0;
+        queue.insert(startId, 0);
+
+        // Dijkstra execution: settle the closest node and relax its edges
+        while (!queue.isEmpty())
+        {
+            int currentId = queue.pollMin();
+            if (currentId == endId) {
+                break;
+            }
+
+            SimplyLinkedList<GraphEdge<graph_t>> edges = nodes[currentId].getEdges();
+            for (GraphEdge<graph_t> edge : edges)
+            {
+                int neighborId = ids.get(edge.getEndNode());
+                double distance = distances[currentId] + DijkstraSearch.lengthOf(edge);
+
+                if (distance < distances[neighborId])
+                {
+                    distances[neighborId] = distance;
+                    previousNode[neighborId] = currentId; // Keep the parent of every node
+
+                    if (queue.contains(neighborId)) {
+                        queue.decreaseKey(neighborId, distance);
+                    } else {
+                        queue.insert(neighborId, distance);
+        }}}}
+
+        // Leave the queue empty for the next search
+        while (!queue.isEmpty()) {
+            queue.pollMin();
+        }
+
+        if (distances[endId] == Double.POSITIVE_INFINITY) {
+            return shortestPath;
+        }
+
+        // Loop through the parent of each node in the hierarchy, prepending it so the path needs no reversal
+        for (int at = endId; at != -1; at = previousNode[at]) {
+            shortestPath.insertDataAtStart(nodes[at]);
+        }
+
+        return shortestPath;
+    }
+
+    /**
+     * Main function to test Dijkstra's Algorithm and to compare the binary heap with the pairing heap
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args)
+    {
+        Graph<Integer> graph = new Graph<>(Graph.DirectionMode.UNDIRECTED, Graph.WeightMode.WEIGHTED);
+
+        for (int i = 0; i < 6; i++) {
+            graph.addNode(i + 1);
+        }
+
+        graph.connectNodes(1, 2, 7);
+        graph.connectNodes(1, 3, 9);
+        graph.connectNodes(1, 6, 14);
+        graph.connectNodes(2, 3, 10);
+        graph.connectNodes(2, 4, 15);
+        graph.connectNodes(3, 4, 11);
+        graph.connectNodes(3, 6, 2);
+        graph.connectNodes(4, 5, 6);
+        graph.connectNodes(5, 6, 9);
+
+        System.out.println(graph);
+        System.out.println("Shortest Path From 1 to 5: " + DijkstraSearch.shortestPathBetween(graph, 1, 5));
+        System.out.println("Shortest Path From 1 to 5 (pairing heap): " + DijkstraSearch.shortestPathBetween(graph, 1, 5, new IndexedPairingHeap(graph.getSize())));
+
+        // A dense random graph, so most relaxations lower the key of a node that is already in the queue
+        final int numberOfNodes = 2_000;
+        final int numberOfEdges = 200_000;
+
+        Graph<Integer> largeGraph = new Graph<>(Graph.DirectionMode.DIRECTED, Graph.WeightMode.WEIGHTED);
+        Integer[] nodeData = new Integer[numberOfNodes]; // The graph looks its nodes up by reference
+        Random random = new Random(42);
+
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodeData[i] = i;
+            largeGraph.addNode(nodeData[i]);
+        }
+        for (int e = 0; e < numberOfEdges; e++) {
+            largeGraph.connectNodes(nodeData[random.nextInt(numberOfNodes)], nodeData[random.nextInt(numberOfNodes)], random.nextDouble());
+        }
+
+        for (int round = 0; round < 3; round++)
+        {
+            long startTime = System.nanoTime();
+            SimplyLinkedList<GraphNode<Integer>> binaryPath = DijkstraSearch.shortestPathBetween(largeGraph, nodeData[0], nodeData[numberOfNodes - 1],
+                new IndexedMinPriorityQueue(numberOfNodes));
+            long binaryTime = System.nanoTime() - startTime;
+
+            startTime = System.nanoTime();
+            SimplyLinkedList<GraphNode<Integer>> pairingPath = DijkstraSearch.shortestPathBetween(largeGraph, nodeData[0], nodeData[numberOfNodes - 1],
+                new IndexedPairingHeap(numberOfNodes));
+            long pairingTime = System.nanoTime() - startTime;
+
+            System.out.println("Binary heap " + (binaryTime / 1_000) + " us, pairing heap " + (pairingTime / 1_000) + " us, same path: "
+                + binaryPath.toString().equals(pairingPath.toString()));
+        }
+    }
+}
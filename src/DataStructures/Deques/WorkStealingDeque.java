@@ -0,0 +1,372 @@
+/* Filename: WorkStealingDeque.java */
+
+package DataStructures.Deques;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import DataStructures.Graphs.AdjacencyListGraph.Graph;
+import DataStructures.Graphs.AdjacencyListGraph.GraphNode;
+import DataStructures.Stacks.StackListMethods;
+
+/**
+ * A class that represents a Chase-Lev work-stealing deque. A single owner thread pushes and pops at the bottom like
+ * a stack, without locks, while any number of thief threads steal the oldest items from the top with a compare and
+ * set. Owner and thieves only compete for the very last item. The items live in a circular array which the owner
+ * doubles when it is full, and a thief that still reads the old array finds the same items there.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class WorkStealingDeque<deque_t> implements StackListMethods<deque_t>
+{
+    private static final int PADDING = 8;  // Longs per cache line, so padded values never share a line
+    private static final int TOP = PADDING;
+    private static final int BOTTOM = 3 * PADDING;
+    private static final int DEFAULT_CAPACITY = 64; // Default number of slots of a new deque
+
+    private final AtomicLongArray indices; // The top and bottom indices, each on its own cache line
+    private volatile AtomicReferenceArray<Object> elements;
+
+    /**
+     * Constructor of the work-stealing deque
+     */
+    public WorkStealingDeque() {
+        this(WorkStealingDeque.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor of the work-stealing deque with a custom initial capacity
+     * @param initialCapacity how many items the deque holds before it grows, rounded up to a power of two
+     */
+    public WorkStealingDeque(int initialCapacity)
+    {
+        if (initialCapacity < 2 || initialCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Initial capacity must be between 2 and 2^30, got " + initialCapacity);
+        }
+
+        // Round the capacity up to a power of two, so indices map to slots with a mask
+        int roundedCapacity = Integer.highestOneBit(initialCapacity);
+        if (roundedCapacity < initialCapacity) {
+            roundedCapacity <<= 1;
+        }
+
+        this.indices = new AtomicLongArray(4 * WorkStealingDeque.PADDING);
+        this.elements = new AtomicReferenceArray<>(roundedCapacity);
+    }
+
+    /**
+     * Returns the size of the work-stealing deque. Thieves may change it at any time, so it is only an estimate
+     * @return how many elements the deque had a moment ago
+     */
+    @Override
+    public int getSize()
+    {
+        long size = this.indices.get(WorkStealingDeque.BOTTOM) - this.indices.get(WorkStealingDeque.TOP);
+        return (int) Math.max(0, Math.min(size, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Returns the number of slots of the work-stealing deque
+     * @return how many items the deque holds before it grows
+     */
+    public int getCapacity() {
+        return this.elements.length();
+    }
+
+    /**
+     * Copies the items between the given indices to an array of twice the size and publishes it
+     * @param oldElements the full array
+     * @param top the top index
+     * @param bottom the bottom index
+     * @return the new array
+     */
+    private AtomicReferenceArray<Object> grow(AtomicReferenceArray<Object> oldElements, long top, long bottom)
+    {
+        int oldMask = oldElements.length() - 1;
+        AtomicReferenceArray<Object> newElements = new AtomicReferenceArray<>(oldElements.length() << 1);
+        int newMask = newElements.length() - 1;
+
+        // Every item keeps its index, so the thieves need no other change
+        for (long i = top; i < bottom; i++) {
+            newElements.setPlain((int) (i & newMask), oldElements.getPlain((int) (i & oldMask)));
+        }
+
+        this.elements = newElements;
+        return newElements;
+    }
+
+    /**
+     * Inserts new data to the bottom of the deque. Only the owner thread may call it
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the data is null
+     */
+    public boolean pushBottom(deque_t data)
+    {
+        // Null marks an empty deque in popBottom and steal, so it can not be stored
+        if (data == null) {
+            return false;
+        }
+
+        long bottom = this.indices.getPlain(WorkStealingDeque.BOTTOM);
+        long top = this.indices.getAcquire(WorkStealingDeque.TOP);
+        AtomicReferenceArray<Object> currentElements = this.elements;
+
+        // Checking if the array is full. If so double it
+        if (bottom - top >= currentElements.length()) {
+            currentElements = this.grow(currentElements, top, bottom);
+        }
+
+        // Write the slot, then publish it to the thieves with an ordered store
+        currentElements.setPlain((int) (bottom & (currentElements.length() - 1)), data);
+        this.indices.setRelease(WorkStealingDeque.BOTTOM, bottom + 1);
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the data at the bottom of the deque, which is the newest item. Only the owner thread may
+     * call it
+     * @return the last item pushed to the deque, null if it is empty or a thief took the last item
+     */
+    @SuppressWarnings("unchecked")
+    public deque_t popBottom()
+    {
+        long bottom = this.indices.getPlain(WorkStealingDeque.BOTTOM) - 1;
+        AtomicReferenceArray<Object> currentElements = this.elements;
+
+        // Claim the bottom slot first, then read the top: the volatile store and load keep thieves from missing it
+        this.indices.set(WorkStealingDeque.BOTTOM, bottom);
+        long top = this.indices.get(WorkStealingDeque.TOP);
+
+        // Checking if the deque is empty. If so restore the bottom and return null
+        if (top > bottom) {
+            this.indices.set(WorkStealingDeque.BOTTOM, bottom + 1);
+            return null;
+        }
+
+        int slot = (int) (bottom & (currentElements.length() - 1));
+        deque_t dataToReturn = (deque_t) currentElements.getPlain(slot);
+
+        // More than one item is left, so no thief can reach this one
+        if (top < bottom) {
+            currentElements.setPlain(slot, null); // Do not keep the removed data reachable from the array
+            return dataToReturn;
+        }
+
+        // This is the last item, so race the thieves for it on the top index
+        boolean wonRace = this.indices.compareAndSet(WorkStealingDeque.TOP, top, top + 1);
+        this.indices.set(WorkStealingDeque.BOTTOM, bottom + 1);
+
+        return wonRace ? dataToReturn : null;
+    }
+
+    /**
+     * Removes and returns the data at the top of the deque, which is the oldest item. Any thread may call it
+     * @return the first item of the deque, null if it is empty
+     */
+    @SuppressWarnings("unchecked")
+    public deque_t steal()
+    {
+        while (true)
+        {
+            long top = this.indices.get(WorkStealingDeque.TOP);
+            long bottom = this.indices.get(WorkStealingDeque.BOTTOM);
+
+            // Checking if the deque is empty. If so return null
+            if (top >= bottom) {
+                return null;
+            }
+
+            // Read the item before claiming it: once the top moves on, the owner may reuse the slot
+            AtomicReferenceArray<Object> currentElements = this.elements;
+            deque_t data = (deque_t) currentElements.getAcquire((int) (top & (currentElements.length() - 1)));
+
+            if (this.indices.compareAndSet(WorkStealingDeque.TOP, top, top + 1)) {
+                return data;
+            }
+            // Another thief or the owner took this item first, so try the next one
+        }
+    }
+
+    /**
+     * Inserts new data to the bottom of the deque, the same as pushBottom
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the data is null
+     */
+    @Override
+    public boolean push(deque_t data) {
+        return this.pushBottom(data);
+    }
+
+    /**
+     * Removes and returns the data at the bottom of the deque, the same as popBottom
+     * @return the last item pushed to the deque, null otherwise
+     */
+    @Override
+    public deque_t pop() {
+        return this.popBottom();
+    }
+
+    /**
+     * Main function to stress test the work-stealing deque and to search a graph with a deque per worker
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        for (int numberOfThieves = 1; numberOfThieves <= 8; numberOfThieves <<= 1) {
+            WorkStealingDeque.runStressTest(numberOfThieves, 2_000_000);
+        }
+        System.out.println("Stress test passed: no item lost or duplicated");
+
+        // A random graph, connected through the boxes that were added since the graph looks its nodes up by reference
+        final int numberOfNodes = 5_000;
+        Graph<Integer> graph = new Graph<>(Graph.DirectionMode.DIRECTED, Graph.WeightMode.UNWEIGHTED);
+        Integer[] nodeData = new Integer[numberOfNodes];
+        Random random = new Random(42);
+
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodeData[i] = i;
+            graph.addNode(nodeData[i]);
+        }
+        for (int e = 0; e < 3 * numberOfNodes; e++) {
+            graph.connectNodes(nodeData[random.nextInt(numberOfNodes)], nodeData[random.nextInt(numberOfNodes)]);
+        }
+
+        int singleWorkerCount = -1;
+        for (int numberOfWorkers = 1; numberOfWorkers <= 4; numberOfWorkers <<= 1)
+        {
+            long startTime = System.nanoTime();
+            int visitedCount = WorkStealingDeque.runParallelSearch(graph.getNodeOfData(nodeData[0]), numberOfWorkers);
+            long elapsedTime = System.nanoTime() - startTime;
+
+            // Every number of workers must reach the same nodes
+            if (singleWorkerCount == -1) {
+                singleWorkerCount = visitedCount;
+            } else if (visitedCount != singleWorkerCount) {
+                throw new IllegalStateException(numberOfWorkers + " workers reached " + visitedCount + " nodes instead of " + singleWorkerCount);
+            }
+
+            System.out.println(numberOfWorkers + " workers reached " + visitedCount + " nodes in " + (elapsedTime / 1_000_000) + " ms");
+        }
+    }
+
+    /**
+     * Lets the owner push unique values and pop some of them back while thieves steal, then checks that every value
+     * came out exactly once
+     * @param numberOfThieves how many thief threads to start
+     * @param numberOfItems how many values the owner pushes
+     */
+    private static void runStressTest(int numberOfThieves, int numberOfItems) throws InterruptedException
+    {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>(2); // Starts tiny, so it grows under the thieves
+        AtomicIntegerArray timesTaken = new AtomicIntegerArray(numberOfItems);
+        AtomicInteger remainingItems = new AtomicInteger(numberOfItems);
+
+        Thread owner = new Thread(() -> {
+            for (int i = 0; i < numberOfItems; i++)
+            {
+                deque.pushBottom(i);
+
+                // Pop every other item, so the owner often races the thieves for the last one
+                if ((i & 1) == 0) {
+                    Integer value = deque.popBottom();
+                    if (value != null) { timesTaken.incrementAndGet(value); remainingItems.decrementAndGet(); }
+                }
+            }
+
+            Integer value;
+            while ((value = deque.popBottom()) != null) {
+                timesTaken.incrementAndGet(value);
+                remainingItems.decrementAndGet();
+            }
+        });
+
+        Thread[] thieves = new Thread[numberOfThieves];
+        for (int t = 0; t < numberOfThieves; t++) {
+            thieves[t] = new Thread(() -> {
+                while (remainingItems.get() > 0)
+                {
+                    Integer value = deque.steal();
+                    if (value == null) { Thread.yield(); continue; } // The deque is empty for now
+
+                    timesTaken.incrementAndGet(value);
+                    remainingItems.decrementAndGet();
+                }
+            });
+        }
+
+        owner.start();
+        for (Thread thief : thieves) { thief.start(); }
+        owner.join();
+        for (Thread thief : thieves) { thief.join(); }
+
+        for (int i = 0; i < numberOfItems; i++) {
+            if (timesTaken.get(i) != 1) {
+                throw new IllegalStateException("Value " + i + " was taken " + timesTaken.get(i) + " times with " + numberOfThieves + " thieves");
+            }
+        }
+    }
+
+    /**
+     * Visits every node reachable from the given node with a work-stealing deque per worker: every worker follows
+     * its own newest nodes depth first, and an idle worker steals the oldest nodes of a random other worker
+     * @param <graph_t> the graph data type
+     * @param startingNode the node to start searching from
+     * @param numberOfWorkers how many worker threads to start
+     * @return how many nodes were visited
+     */
+    private static <graph_t> int runParallelSearch(GraphNode<graph_t> startingNode, int numberOfWorkers) throws InterruptedException
+    {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        WorkStealingDeque<GraphNode<graph_t>>[] deques = new WorkStealingDeque[numberOfWorkers];
+        for (int w = 0; w < numberOfWorkers; w++) {
+            deques[w] = new WorkStealingDeque<>();
+        }
+
+        Set<GraphNode<graph_t>> visitedNodes = ConcurrentHashMap.newKeySet();
+        AtomicInteger pendingNodes = new AtomicInteger(1); // Nodes pushed but not processed yet, so workers know when to stop
+
+        visitedNodes.add(startingNode);
+        deques[0].pushBottom(startingNode);
+
+        Thread[] workers = new Thread[numberOfWorkers];
+        for (int w = 0; w < numberOfWorkers; w++)
+        {
+            final int workerIndex = w;
+            workers[w] = new Thread(() -> {
+                WorkStealingDeque<GraphNode<graph_t>> ownDeque = deques[workerIndex];
+
+                while (pendingNodes.get() > 0)
+                {
+                    GraphNode<graph_t> currentNode = ownDeque.popBottom();
+                    if (currentNode == null) {
+                        currentNode = deques[ThreadLocalRandom.current().nextInt(numberOfWorkers)].steal();
+                    }
+                    if (currentNode == null) {
+                        Thread.yield();
+                        continue;
+                    }
+
+                    for (GraphNode<graph_t> node : currentNode.getNeighbors()) {
+                        if (visitedNodes.add(node)) {
+                            pendingNodes.incrementAndGet();
+                            ownDeque.pushBottom(node);
+                        }
+                    }
+                    pendingNodes.decrementAndGet();
+                }
+            });
+        }
+
+        for (Thread worker : workers) { worker.start(); }
+        for (Thread worker : workers) { worker.join(); }
+
+        return visitedNodes.size();
+    }
+}
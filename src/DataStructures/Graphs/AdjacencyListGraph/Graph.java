@@ -1,7 +1,13 @@
 package DataStructures.Graphs.AdjacencyListGraph;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
 import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
-import DataStructures.Lists.SimplyLinkedList.SimplyLinkedListNode;
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedListMethods;
+import DataStructures.Utilities.TextOutput;
 
 /**
  * Public interface for the unweighted undirected graph's methods
@@ -21,36 +27,6 @@ interface GraphMethods<graph_t>
     int getNodeIndex(GraphNode<graph_t> node);
 }
 
-/**
- * Supporting class to define the node list type
- * @author Antonis Zikas
- */
-class NodeList<node_t> extends SimplyLinkedList<GraphNode<node_t>>
-{
-    /**
-     * Returns the graph node that containing the given data
-     * @param data the data to find the node containing it
-     * @return the graph that contains the given data, null if not found
-     */
-    public GraphNode<node_t> getNodeOfData(node_t data)
-    {
-        // Initialize a current list node and set it to be the first node in the neighbors list
-        SimplyLinkedListNode<GraphNode<node_t>> currentNode = this.head;
-
-        // Loop through every node in the neighbor list to find the node containing the given data
-        while (currentNode != null) 
-        {
-            if (currentNode.getData().getData() == data) {
-                return currentNode.getData();
-            }
-            currentNode = currentNode.getNextNode();
-        }
-
-        // Otherwise there is not such a node, so return null 
-        return null;
-    }
-}
-
 /**
  * A class that represents an unweighted undirected graph data structure
  * @author Antonis Zikas
@@ -62,7 +38,9 @@ public class Graph<graph_t> implements GraphMethods<graph_t>
     public enum DirectionMode { DIRECTED, UNDIRECTED }
     public enum WeightMode    { WEIGHTED, UNWEIGHTED }
 
-    private final NodeList<graph_t> nodes;
+    private static final String DEFAULT_EDGE_SEPERATOR = ", "; // Default seperator character between the edges of a node
+
+    private final SimplyLinkedListMethods<GraphNode<graph_t>> nodes;
     private int numberOfNodes;
 
     private final DirectionMode directionMode;
@@ -73,7 +51,7 @@ public class Graph<graph_t> implements GraphMethods<graph_t>
      */
     public Graph() 
     {
-        this.nodes = new NodeList<>();
+        this.nodes = new SimplyLinkedList<>();
         this.numberOfNodes = 0;
 
         // Set the default mode of the graph (unweighted and undirected)
@@ -88,7 +66,23 @@ public class Graph<graph_t> implements GraphMethods<graph_t>
      */
     public Graph(DirectionMode directionMode, WeightMode weightMode)
     {
-        this.nodes = new NodeList<>();
+        this.nodes = new SimplyLinkedList<>();
+        this.numberOfNodes = 0;
+
+        // Set the mode of the graph according to the inputs
+        this.directionMode = directionMode;
+        this.weightMode = weightMode;
+    }
+
+    /**
+     * Complex Constructor of the graph with a custom list to store its nodes
+     * @param directionMode the mode of the graph, whether it is directed or undirected
+     * @param weightMode the mode of the graph, whether it is weighted or unweighted
+     * @param nodes the empty list that stores the nodes of the graph
+     */
+    public Graph(DirectionMode directionMode, WeightMode weightMode, SimplyLinkedListMethods<GraphNode<graph_t>> nodes)
+    {
+        this.nodes = nodes;
         this.numberOfNodes = 0;
 
         // Set the mode of the graph according to the inputs
@@ -101,8 +95,17 @@ public class Graph<graph_t> implements GraphMethods<graph_t>
      * @return the node in the graph that contains the given data
      */
     @Override
-    public GraphNode<graph_t> getNodeOfData(graph_t data) {
-        return this.nodes.getNodeOfData(data);
+    public GraphNode<graph_t> getNodeOfData(graph_t data)
+    {
+        // Loop through every node in the graph to find the node containing the given data
+        for (GraphNode<graph_t> currentNode : this.nodes) {
+            if (currentNode.getData() == data) {
+                return currentNode;
+            }
+        }
+
+        // Otherwise there is not such a node, so return null
+        return null;
     }
 
     /**
@@ -118,6 +121,14 @@ public class Graph<graph_t> implements GraphMethods<graph_t>
         return this.numberOfNodes;
     }
 
+    /**
+     * Returns the nodes of the graph, in the order of their indexes, so searches can number them once
+     * @return an iterable over every node of the graph
+     */
+    public Iterable<GraphNode<graph_t>> getNodes() {
+        return this.nodes::iterator;
+    }
+
     /**
      * Adds a new node to this graph with the given data and no neighbors
      * @param data the data to be inserted
@@ -153,17 +164,55 @@ public class Graph<graph_t> implements GraphMethods<graph_t>
     @Override
     public final String toString()
     {
-        // Create a result string variable
-        StringBuilder response = new StringBuilder();
+        // Stream the graph into a string
+        return TextOutput.toString(response -> this.writeTo(response, Graph.DEFAULT_EDGE_SEPERATOR));
+    }
 
-        // Loop through every node in the graph and store its neighbors to the result string
+    /**
+     * Writes the adjacency lists of the graph to the given output, one edge at a time, so the whole graph is never
+     * held in a single string
+     * @param out the output to append the graph to
+     * @param seperator a character seperator between the edges of a node
+     * @throws IOException if the output fails to append
+     */
+    public final void writeTo(Appendable out, String seperator) throws IOException
+    {
+        // Loop through every node in the graph and append its neighbors to the output
         for (GraphNode<graph_t> currentNode : this.nodes)
         {
-            response.append(currentNode.getData()).append(": ");
-            response.append(currentNode.getEdges().toString()).append("\n");
+            out.append(String.valueOf(currentNode.getData())).append(": ");
+            currentNode.getEdges().writeTo(out, seperator);
+            out.append("\n");
         }
+    }
 
-        return response.toString();
+    /**
+     * Writes the adjacency lists of the graph to the given writer through a buffer. The writer is flushed but not closed
+     * @param out the writer to write the graph to
+     * @param seperator a character seperator between the edges of a node
+     * @throws IOException if the writer fails to write
+     */
+    public final void writeTo(Writer out, String seperator) throws IOException
+    {
+        TextOutput.writeBuffered(out, bufferedOut -> this.writeTo(bufferedOut, seperator));
+    }
+
+    /**
+     * Writes the adjacency lists of the graph to the given output with the default seperator
+     * @param out the output to append the graph to
+     * @throws IOException if the output fails to append
+     */
+    public final void writeTo(Appendable out) throws IOException {
+        this.writeTo(out, Graph.DEFAULT_EDGE_SEPERATOR);
+    }
+
+    /**
+     * Writes the adjacency lists of the graph to the given writer with the default seperator
+     * @param out the writer to write the graph to
+     * @throws IOException if the writer fails to write
+     */
+    public final void writeTo(Writer out) throws IOException {
+        this.writeTo(out, Graph.DEFAULT_EDGE_SEPERATOR);
     }
 
     /**
@@ -179,7 +228,7 @@ public class Graph<graph_t> implements GraphMethods<graph_t>
         GraphNode<graph_t> node1, node2;
 
         // Check if there are such nodes that contain the given data
-        if ((node1 = this.nodes.getNodeOfData(data1)) == null || (node2 = this.nodes.getNodeOfData(data2)) == null) {
+        if ((node1 = this.getNodeOfData(data1)) == null || (node2 = this.getNodeOfData(data2)) == null) {
             return false;
         }
 
@@ -226,7 +275,7 @@ public class Graph<graph_t> implements GraphMethods<graph_t>
         GraphNode<graph_t> node1, node2;
 
         // Check if there are such nodes that contain the given data
-        if ((node1 = this.nodes.getNodeOfData(data1)) == null || (node2 = this.nodes.getNodeOfData(data2)) == null) {
+        if ((node1 = this.getNodeOfData(data1)) == null || (node2 = this.getNodeOfData(data2)) == null) {
             return false;
         }
 
@@ -266,7 +315,7 @@ public class Graph<graph_t> implements GraphMethods<graph_t>
         GraphNode<graph_t> node1, node2;
 
         // Check if there are suck nodes with the given data
-        if ((node1 = this.nodes.getNodeOfData(data1)) == null || (node2 = this.nodes.getNodeOfData(data2)) == null) {
+        if ((node1 = this.getNodeOfData(data1)) == null || (node2 = this.getNodeOfData(data2)) == null) {
             return false;
         }
 
@@ -292,7 +341,7 @@ public class Graph<graph_t> implements GraphMethods<graph_t>
     	GraphNode<graph_t> node1, node2;
     	
     	// Check if there are such nodes with the given data
-    	if ((node1 = this.nodes.getNodeOfData(data1)) == null || (node2 = this.nodes.getNodeOfData(data2)) == null) {
+    	if ((node1 = this.getNodeOfData(data1)) == null || (node2 = this.getNodeOfData(data2)) == null) {
     		return false;
     	}
     	
@@ -327,5 +376,35 @@ public class Graph<graph_t> implements GraphMethods<graph_t>
         }
 
         System.out.println("Index: " + graph.getNodeIndex(graph.getNodeOfData(5)));
+
+        // Dump a graph with 10^6 edges, once streamed through a buffer and once built into a single string
+        Graph<Integer> largeGraph = new Graph<>(Graph.DirectionMode.DIRECTED, Graph.WeightMode.UNWEIGHTED);
+        final int numberOfNodes = 1_000;
+
+        for (int i = 0; i < numberOfNodes; i++) {
+            largeGraph.addNode(i);
+        }
+        for (GraphNode<Integer> node : largeGraph.nodes) {
+            for (GraphNode<Integer> neighbor : largeGraph.nodes) {
+                node.addNeighbor(neighbor);
+            }
+        }
+
+        try {
+            long startTime = System.nanoTime();
+            int dumpLength = largeGraph.toString().length();
+            long stringTime = System.nanoTime() - startTime;
+
+            startTime = System.nanoTime();
+            largeGraph.writeTo(Writer.nullWriter());
+            long streamedTime = System.nanoTime() - startTime;
+
+            System.out.println("Dumped " + dumpLength + " characters in " + (streamedTime / 1_000_000) + " ms streamed, "
+                + (stringTime / 1_000_000) + " ms as a single string");
+
+            graph.writeTo(new OutputStreamWriter(System.out), " | ");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
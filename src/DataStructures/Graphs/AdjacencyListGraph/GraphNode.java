@@ -1,7 +1,10 @@
 package DataStructures.Graphs.AdjacencyListGraph;
 
+import java.io.IOException;
+
 import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
 import DataStructures.Lists.SimplyLinkedList.SimplyLinkedListNode;
+import DataStructures.Utilities.TextOutput;
 
 /**
  * Supporting class to define the edge list type
@@ -17,27 +20,16 @@ class EdgeList<node_t> extends SimplyLinkedList<GraphEdge<node_t>>
     public boolean removeEdgeWithEndNodeData(GraphNode<node_t> node)
     {
         // Initialize a current node to iterate through the edges list
-        SimplyLinkedListNode<GraphEdge<node_t>> currentNode = this.head, previousNode = this.head;
-        
-        // Checking if the list is empty
-        if (this.head == null) {
-        	return false;
-        }
-        
-        // Check if the given data is in the first node
-        if (this.head.getData().getEndNode().equals(node)) {
-            this.head = this.head.getNextNode();
-            return true;
-        }
+        SimplyLinkedListNode<GraphEdge<node_t>> currentNode = this.head, previousNode = null;
         
-        // Otherwise loop through the edges and find the node containing the given data
+        // Loop through the edges and find the node containing the given data
         while (currentNode != null) 
         {
             GraphNode<node_t> currentEndNode = currentNode.getData().getEndNode();
             
-            // Check if the current data is equal to the given data
+            // Check if the current data is equal to the given data. If so unlink it, keeping the tail and size in sync
             if (currentEndNode.equals(node)) {
-                previousNode.setNextNode(currentNode.getNextNode());
+                this.unlinkNode(previousNode, currentNode);
                 return true;
             }
             
@@ -50,27 +42,32 @@ class EdgeList<node_t> extends SimplyLinkedList<GraphEdge<node_t>>
     @Override
     public final String toString()
     {
-        SimplyLinkedListNode<GraphEdge<node_t>> currentNode = this.head;
-        StringBuilder response = new StringBuilder();
+        return TextOutput.toString(response -> this.writeTo(response, ", "));
+    }
 
-        while (currentNode != null)
+    /**
+     * Writes the edges of the list to the given output, one edge at a time
+     * @param out the output to append the edges to
+     * @param seperator a character seperator between the edges
+     * @throws IOException if the output fails to append
+     */
+    @Override
+    public final void writeTo(Appendable out, String seperator) throws IOException
+    {
+        for (SimplyLinkedListNode<GraphEdge<node_t>> currentNode = this.head; currentNode != null; currentNode = currentNode.getNextNode())
         {
-            response.append("(").append(currentNode.getData().getEndNode().toString());
-            
+            out.append("(").append(currentNode.getData().getEndNode().toString());
+
             if (currentNode.getData().getEndNode().connectionMode == GraphNode.ConnectionMode.WEIGHTED) {
-                response.append(", ").append(currentNode.getData().getWeight());
+                out.append(", ").append(String.valueOf(currentNode.getData().getWeight()));
             }
 
-            response.append(")");
+            out.append(")");
 
             if (currentNode.getNextNode() != null) {
-                response.append(", ");
+                out.append(seperator);
             }
-            
-            currentNode = currentNode.getNextNode();
         }
-
-        return response.toString();
     }
 }
 
@@ -240,6 +237,15 @@ public class GraphNode<node_t>
         return this.data == otherNode.data;
     }
 
+    /**
+     * Overloading method for hashing the graph node, consistent with its equality check
+     * @return the identity hash code of the node's data
+     */
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this.data);
+    }
+
     /**
      * Main function to check node functionality
      * @param args some arguments for command line executions
@@ -0,0 +1,560 @@
+/* Filename: ConcurrentLinkedList.java */
+
+package DataStructures.Lists.ConcurrentLinkedList;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedListMethods;
+
+/**
+ * A class that represents a lock-free linked list that can be shared between threads. Nodes are removed in two
+ * steps, as in Harris' list: a CAS first marks the link of the node to delete it logically, and then the node is
+ * unlinked by whichever thread gets to it first. A marked link can never change again, so no insertion can land
+ * after a deleted node. Positional operations act on the position seen while traversing, and iterators are weakly
+ * consistent: they never fail, and they reflect some of the changes made after they were created.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class ConcurrentLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
+{
+    private static final String DEFAULT_SEPERATOR = " -> "; // Default seperator character for the data printing
+
+    /**
+     * Supporting class to hold the result of a traversal
+     */
+    private static final class Window<window_t>
+    {
+        final ConcurrentLinkedListNode<window_t> previousNode;
+        final ConcurrentLinkedListNode<window_t> currentNode;
+        final int currentIndex;
+
+        Window(ConcurrentLinkedListNode<window_t> previousNode, ConcurrentLinkedListNode<window_t> currentNode, int currentIndex) {
+            this.previousNode = previousNode;
+            this.currentNode = currentNode;
+            this.currentIndex = currentIndex;
+        }
+    }
+
+    // Data of the concurrent linked list
+    private final ConcurrentLinkedListNode<list_t> head; // Sentinel node that is never deleted
+    private final AtomicReference<ConcurrentLinkedListNode<list_t>> tail; // Hint that points at or before the last node
+    private final AtomicInteger size;
+
+    /**
+     * Constructor of the concurrent linked list
+     */
+    public ConcurrentLinkedList()
+    {
+        this.head = new ConcurrentLinkedListNode<>(null, null);
+        this.tail = new AtomicReference<>(this.head);
+        this.size = new AtomicInteger(0);
+    }
+
+    /**
+     * Returns the size of the concurrent linked list. While other threads modify the list it is only an estimate
+     * @return how many elements the list has
+     */
+    @Override
+    public int getSize() {
+        return this.size.get();
+    }
+
+    /**
+     * Finds the live node at the given index and the node before it, unlinking any deleted node on the way
+     * @param index the index of the node to find
+     * @return the window at the index, where the current node is null if the list is shorter than the index
+     */
+    private Window<list_t> findNode(int index)
+    {
+        boolean[] deleted = { false };
+
+        retry:
+        while (true)
+        {
+            ConcurrentLinkedListNode<list_t> previousNode = this.head;
+            ConcurrentLinkedListNode<list_t> currentNode = previousNode.getNextNode();
+            int currentIndex = 0;
+
+            while (currentNode != null)
+            {
+                ConcurrentLinkedListNode<list_t> nextNode = currentNode.getNextNode(deleted);
+
+                // Unlink a deleted node, starting over if the previous node changed meanwhile
+                if (deleted[0]) {
+                    if (!previousNode.compareAndSetNextNode(currentNode, nextNode)) {
+                        continue retry;
+                    }
+                    currentNode = nextNode;
+                    continue;
+                }
+
+                if (currentIndex == index) {
+                    break;
+                }
+                previousNode = currentNode;
+                currentNode = nextNode;
+                currentIndex++;
+            }
+
+            return new Window<>(previousNode, currentNode, currentIndex);
+        }
+    }
+
+    /**
+     * Finds the last live node and the node before it, unlinking any deleted node on the way
+     * @return the window of the last node, where the current node is null if the list is empty
+     */
+    private Window<list_t> findLastNode()
+    {
+        boolean[] deleted = { false };
+
+        retry:
+        while (true)
+        {
+            ConcurrentLinkedListNode<list_t> previousNode = this.head;
+            ConcurrentLinkedListNode<list_t> currentNode = previousNode.getNextNode();
+            ConcurrentLinkedListNode<list_t> lastPreviousNode = this.head, lastNode = null;
+
+            while (currentNode != null)
+            {
+                ConcurrentLinkedListNode<list_t> nextNode = currentNode.getNextNode(deleted);
+
+                // Unlink a deleted node, starting over if the previous node changed meanwhile
+                if (deleted[0]) {
+                    if (!previousNode.compareAndSetNextNode(currentNode, nextNode)) {
+                        continue retry;
+                    }
+                    currentNode = nextNode;
+                    continue;
+                }
+
+                lastPreviousNode = previousNode;
+                lastNode = currentNode;
+
+                previousNode = currentNode;
+                currentNode = nextNode;
+            }
+
+            return new Window<>(lastPreviousNode, lastNode, -1);
+        }
+    }
+
+    /**
+     * Inserts data to the end of the concurrent linked list
+     * @param data the data to be inserted
+     */
+    @Override
+    public final boolean insertDataAtEnd(list_t data)
+    {
+        ConcurrentLinkedListNode<list_t> newNode = new ConcurrentLinkedListNode<>(data, null);
+        boolean[] deleted = { false };
+
+        while (true)
+        {
+            ConcurrentLinkedListNode<list_t> lastNode = this.tail.get();
+            ConcurrentLinkedListNode<list_t> nextNode = lastNode.getNextNode(deleted);
+
+            // The hint points at a deleted node, so find the real end from the head
+            if (deleted[0]) {
+                lastNode = this.findLastNode().currentNode;
+                lastNode = (lastNode == null) ? this.head : lastNode;
+                nextNode = null;
+            }
+
+            // The hint fell behind, so move it forward and try again
+            if (nextNode != null) {
+                this.tail.compareAndSet(lastNode, nextNode);
+                continue;
+            }
+
+            // Link the new node after the last one, which fails if it was deleted or extended meanwhile
+            if (lastNode.compareAndSetNextNode(null, newNode)) {
+                this.tail.set(newNode);
+                this.size.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Inserts data to the beginning of the concurrent linked list
+     * @param data the data to be inserted
+     */
+    @Override
+    public final boolean insertDataAtStart(list_t data) {
+        return this.insertDataAtIndex(data, 0);
+    }
+
+    /**
+     * Inserts the given data to the given index of the concurrent linked list
+     * @param data the data to be inserted
+     * @param index the index in witch the data is going to be inserted
+     */
+    @Override
+    public final boolean insertDataAtIndex(list_t data, int index)
+    {
+        // Checking if the given index is negative
+        if (index < 0) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size.get() + " elements.");
+            return false;
+        }
+
+        while (true)
+        {
+            Window<list_t> window = this.findNode(index);
+
+            // Checking if the list is shorter than the given index
+            if (window.currentNode == null && window.currentIndex < index) {
+                System.err.println("Error accessing index " + index + ". List has " + window.currentIndex + " elements.");
+                return false;
+            }
+
+            // Link the new node between the two nodes of the window, or try again if they changed meanwhile
+            ConcurrentLinkedListNode<list_t> newNode = new ConcurrentLinkedListNode<>(data, window.currentNode);
+
+            if (window.previousNode.compareAndSetNextNode(window.currentNode, newNode)) {
+                this.size.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the data at the end of the concurrent linked list
+     */
+    @Override
+    public final list_t removeDataFromEnd()
+    {
+        while (true)
+        {
+            Window<list_t> window = this.findLastNode();
+
+            // Checking if the list is empty. If so return null
+            if (window.currentNode == null) {
+                return null;
+            }
+
+            // Delete the node only if it is still the last one, then try to unlink it
+            if (window.currentNode.markDeleted(null)) {
+                this.size.decrementAndGet();
+                window.previousNode.compareAndSetNextNode(window.currentNode, null);
+
+                return window.currentNode.getData();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the data from the beginning of the concurrent linked list
+     * @return the first item in the list, null otherwise
+     */
+    @Override
+    public final list_t removeDataFromStart() {
+        return this.removeDataFromIndex(0);
+    }
+
+    /**
+     * Removes and returns the data at the given index inside the concurrent linked list
+     * @param index the index from which the data will be removed
+     */
+    @Override
+    public final list_t removeDataFromIndex(int index)
+    {
+        // Checking if the given index is negative
+        if (index < 0) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size.get() + " elements.");
+            return null;
+        }
+
+        while (true)
+        {
+            Window<list_t> window = this.findNode(index);
+
+            // Checking if the list is empty or shorter than the given index
+            if (window.currentNode == null) {
+                if (window.currentIndex > 0) {
+                    System.err.println("Error accessing index " + index + ". List has " + window.currentIndex + " elements.");
+                }
+                return null;
+            }
+
+            // Delete the node logically, then try to unlink it. Another thread unlinks it if this one fails
+            ConcurrentLinkedListNode<list_t> nextNode = window.currentNode.getNextNode();
+
+            if (window.currentNode.markDeleted(nextNode)) {
+                this.size.decrementAndGet();
+                window.previousNode.compareAndSetNextNode(window.currentNode, nextNode);
+
+                return window.currentNode.getData();
+            }
+        }
+    }
+
+    /**
+     * Overloading method for printing the concurrent linked list object
+     * @return the list as a string
+     */
+    @Override
+    public String toString()
+    {
+        // Create a result string variable
+        StringBuilder response = new StringBuilder("[");
+        Iterator<list_t> iterator = this.iterator();
+
+        // Loop through every live element in the list and store it to the result string
+        while (iterator.hasNext())
+        {
+            response.append(iterator.next().toString());
+            if (iterator.hasNext()) {
+                response.append(ConcurrentLinkedList.DEFAULT_SEPERATOR);
+            }
+        }
+        response.append("]");
+
+        return response.toString();
+    }
+
+    /**
+     * Advanced printing of the concurrent linked list's sequence of data
+     * @param seperator a character seperator for the data printing
+     */
+    @Override
+    public final void print(String seperator)
+    {
+        System.out.print("[");
+        Iterator<list_t> iterator = this.iterator();
+
+        // Loop through every live element in the list and print it
+        while (iterator.hasNext())
+        {
+            System.out.print(iterator.next());
+            if (iterator.hasNext()) { // Printing a seperator character if necessary
+                System.out.print(seperator);
+            }
+        }
+        System.out.println("]");
+    }
+
+    /**
+     * Default printing of the concurrent linked list's sequence of data
+     */
+    @Override
+    public final void print() {
+        this.print(ConcurrentLinkedList.DEFAULT_SEPERATOR);
+    }
+
+    /**
+     * Searches for the give data in the list, comparing with equals and without modifying the list or retrying
+     * @return true is data found, false if data not found
+     */
+    @Override
+    public boolean contains(list_t data)
+    {
+        // Search for the given data in the live nodes and if found return true
+        for (ConcurrentLinkedListNode<list_t> currentNode = this.head.getNextNode(); currentNode != null; currentNode = currentNode.getNextNode()) {
+            if (!currentNode.isDeleted() && Objects.equals(currentNode.getData(), data)) {
+                return true;
+            }
+        }
+        return false; // Otherwise, no data found
+    }
+
+    /**
+     * Returns the index of the given data in the list, if exist
+     * @return the index of the data in the list, -1 if not exist
+     */
+    @Override
+    public int indexOf(list_t data)
+    {
+        int indexCounter = 0;
+
+        // Search for the given data in the live nodes and if found return its index
+        for (ConcurrentLinkedListNode<list_t> currentNode = this.head.getNextNode(); currentNode != null; currentNode = currentNode.getNextNode()) {
+            if (currentNode.isDeleted()) {
+                continue;
+            }
+            if (Objects.equals(currentNode.getData(), data)) {
+                return indexCounter;
+            }
+            indexCounter++;
+        }
+        return -1; // Otherwise return -1 indicating that the data was not found in the list
+    }
+
+    /**
+     * Iterable method to iterate the list using 'foreach' loop. The iterator is weakly consistent
+     * @return an iterator object
+     */
+    @Override
+    public Iterator<list_t> iterator()
+    {
+        // Construct a new iterator object that skips deleted nodes
+        return new Iterator<>() {
+            private ConcurrentLinkedListNode<list_t> currentNode = this.nextLiveNode(head.getNextNode());
+
+            /**
+             * Returns the first live node starting from the given one
+             * @param node the node to start from
+             * @return the first node that is not deleted, null if there is none
+             */
+            private ConcurrentLinkedListNode<list_t> nextLiveNode(ConcurrentLinkedListNode<list_t> node)
+            {
+                while (node != null && node.isDeleted()) {
+                    node = node.getNextNode();
+                }
+                return node;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return currentNode != null; // Determine whether there is a next node in the sequence
+            }
+
+            @Override
+            public list_t next() {
+                if (currentNode == null) {
+                    throw new NoSuchElementException();
+                }
+
+                // Return the data of the current node, and move to the next live one
+                list_t dataToReturn = currentNode.getData();
+                currentNode = this.nextLiveNode(currentNode.getNextNode());
+
+                return dataToReturn;
+            }
+        };
+    }
+
+    /**
+     * Returns the same list but reversed, built from a weakly consistent traversal
+     * @return the reversed version of this list
+     */
+    @Override
+    public ConcurrentLinkedList<list_t> getReveresedVersion()
+    {
+        // Initialize a new concurrent linked list
+        ConcurrentLinkedList<list_t> resultList = new ConcurrentLinkedList<>();
+
+        // Loop through every element in the list and add it in the beginning of the reversed one
+        for (list_t data : this) {
+            resultList.insertDataAtStart(data);
+        }
+
+        return resultList;
+    }
+
+    /**
+     * Runs the given task on the given number of threads and waits for all of them
+     * @param numberOfThreads how many threads run the task
+     * @param task the task, which receives the index of its thread
+     * @return the elapsed time in nanoseconds
+     */
+    private static long runThreads(int numberOfThreads, IntConsumer task) throws InterruptedException
+    {
+        Thread[] threads = new Thread[numberOfThreads];
+
+        for (int i = 0; i < numberOfThreads; i++) {
+            final int threadIndex = i;
+            threads[i] = new Thread(() -> task.accept(threadIndex));
+        }
+
+        long startTime = System.nanoTime();
+        for (Thread thread : threads) { thread.start(); }
+        for (Thread thread : threads) { thread.join(); }
+
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Main function to stress test the concurrent linked list and compare it against a synchronized list
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        final int numberOfThreads = 8;
+        final int operationsPerThread = 100_000;
+
+        // Stress test: every thread inserts unique values and removes from random places
+        ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<>();
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ArrayList<Integer>[] removedValues = new ArrayList[numberOfThreads];
+
+        runThreads(numberOfThreads, threadIndex -> {
+            Random random = new Random(threadIndex);
+            removedValues[threadIndex] = new ArrayList<>();
+
+            for (int i = 0; i < operationsPerThread; i++)
+            {
+                Integer value = threadIndex * operationsPerThread + i;
+
+                switch (random.nextInt(3)) {
+                    case 0:  list.insertDataAtEnd(value);   break;
+                    case 1:  list.insertDataAtStart(value); break;
+                    default:
+                        if (list.getSize() < 2 || !list.insertDataAtIndex(value, 1)) { // The list may shrink meanwhile
+                            list.insertDataAtStart(value);
+                        }
+                        break;
+                }
+
+                // Remove after every insertion, so the list stays short and the threads keep colliding
+                Integer removedValue = (random.nextBoolean()) ? list.removeDataFromStart() : list.removeDataFromEnd();
+                if (removedValue != null) {
+                    removedValues[threadIndex].add(removedValue);
+                }
+            }
+        });
+
+        // Every inserted value must have been removed exactly once or still be in the list
+        HashSet<Integer> seenValues = new HashSet<>();
+        int remainingCount = 0;
+
+        for (ArrayList<Integer> values : removedValues) {
+            for (Integer value : values) {
+                if (!seenValues.add(value)) { throw new IllegalStateException("Value " + value + " was removed twice"); }
+            }
+        }
+        for (Integer value : list) {
+            if (!seenValues.add(value)) { throw new IllegalStateException("Value " + value + " is duplicated"); }
+            remainingCount++;
+        }
+        if (remainingCount != list.getSize()) {
+            throw new IllegalStateException("Size is " + list.getSize() + " but " + remainingCount + " elements remain");
+        }
+        if (seenValues.size() != numberOfThreads * operationsPerThread) {
+            throw new IllegalStateException(seenValues.size() + " values accounted for instead of " + numberOfThreads * operationsPerThread);
+        }
+        System.out.println("Stress test passed: " + seenValues.size() + " values accounted for, " + remainingCount + " left in the list");
+
+        // Throughput: appends and removals from the start, against a simply linked list behind a lock
+        ConcurrentLinkedList<Integer> concurrentList = new ConcurrentLinkedList<>();
+        SimplyLinkedList<Integer> synchronizedList = new SimplyLinkedList<>();
+        Integer element = 42;
+
+        long concurrentTime = runThreads(numberOfThreads, threadIndex -> {
+            for (int i = 0; i < operationsPerThread; i++) {
+                concurrentList.insertDataAtEnd(element);
+                concurrentList.removeDataFromStart();
+            }
+        });
+        long synchronizedTime = runThreads(numberOfThreads, threadIndex -> {
+            for (int i = 0; i < operationsPerThread; i++) {
+                synchronized (synchronizedList) { synchronizedList.insertDataAtEnd(element); }
+                synchronized (synchronizedList) { synchronizedList.removeDataFromStart(); }
+            }
+        });
+
+        long totalOperations = 2L * numberOfThreads * operationsPerThread;
+        System.out.println("Concurrent linked list:   " + (totalOperations * 1_000_000_000L / concurrentTime) + " ops/s");
+        System.out.println("Synchronized linked list: " + (totalOperations * 1_000_000_000L / synchronizedTime) + " ops/s");
+    }
+}
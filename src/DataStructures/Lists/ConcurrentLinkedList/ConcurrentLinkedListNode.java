@@ -0,0 +1,76 @@
+package DataStructures.Lists.ConcurrentLinkedList;
+
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ * A class that represents a concurrent linked list node. The link to the next node carries a mark,
+ * which is set once the node is logically deleted and never cleared.
+ * @author Antonis Zikas
+ */
+public class ConcurrentLinkedListNode <node_t>
+{
+    private final node_t data;
+    private final AtomicMarkableReference<ConcurrentLinkedListNode<node_t>> nextNode;
+
+    /**
+     * Constructor of the concurrent linked list node
+     * @param data the data of the node
+     * @param nextNode the next node in the sequence
+     */
+    public ConcurrentLinkedListNode(node_t data, ConcurrentLinkedListNode<node_t> nextNode) {
+        this.data = data;
+        this.nextNode = new AtomicMarkableReference<>(nextNode, false);
+    }
+
+    /**
+     * Returns the data of the node
+     * @return the node's data
+     */
+    public node_t getData() {
+        return this.data;
+    }
+
+    /**
+     * Returns the next node of the current one, even if the current node is deleted
+     * @return the next node in the sequence
+     */
+    public ConcurrentLinkedListNode<node_t> getNextNode() {
+        return this.nextNode.getReference();
+    }
+
+    /**
+     * Determines whether this node has been logically deleted
+     * @return true if the node is deleted, false otherwise
+     */
+    public boolean isDeleted() {
+        return this.nextNode.isMarked();
+    }
+
+    /**
+     * Returns the next node and whether this node is deleted, read together atomically
+     * @param deleted receives the deletion mark of this node at index 0
+     * @return the next node in the sequence
+     */
+    ConcurrentLinkedListNode<node_t> getNextNode(boolean[] deleted) {
+        return this.nextNode.get(deleted);
+    }
+
+    /**
+     * Swings the next link from the expected node to the new one, if this node is not deleted
+     * @param expectedNode the next node that is expected
+     * @param newNode the new next node
+     * @return true if the link was changed, false otherwise
+     */
+    boolean compareAndSetNextNode(ConcurrentLinkedListNode<node_t> expectedNode, ConcurrentLinkedListNode<node_t> newNode) {
+        return this.nextNode.compareAndSet(expectedNode, newNode, false, false);
+    }
+
+    /**
+     * Logically deletes this node, if it is not deleted yet and its next node is the expected one
+     * @param expectedNode the next node that is expected
+     * @return true if this call deleted the node, false otherwise
+     */
+    boolean markDeleted(ConcurrentLinkedListNode<node_t> expectedNode) {
+        return this.nextNode.compareAndSet(expectedNode, expectedNode, false, true);
+    }
+}
@@ -0,0 +1,494 @@
+/* Filename: IndexedSkipList.java */
+
+package DataStructures.Lists.IndexedSkipList;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Random;
+
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedListMethods;
+
+/**
+ * A class that represents a positional list with an indexable skip list layer over its nodes. The bottom level
+ * holds the elements in order, and every upper level link records how many elements it skips, so getting,
+ * inserting and removing by index take O(log n) expected time instead of a walk from the head.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class IndexedSkipList<list_t> implements SimplyLinkedListMethods<list_t>
+{
+    private static final String DEFAULT_SEPERATOR = " -> "; // Default seperator character for the data printing
+    private static final int MAX_LEVEL = 32;                // Enough levels for any list that fits in an int
+
+    // Data of the indexed skip list
+    private final IndexedSkipListNode<list_t> head; // Sentinel node that sits before the first element
+    private int level;
+    private int size;
+
+    private final Random random;
+
+    /**
+     * Constructor of the indexed skip list
+     */
+    public IndexedSkipList() {
+        this(new Random());
+    }
+
+    /**
+     * Constructor of the indexed skip list with a given source of node levels
+     * @param random the random generator that picks the level of every new node
+     */
+    public IndexedSkipList(Random random)
+    {
+        this.head = new IndexedSkipListNode<>(null, IndexedSkipList.MAX_LEVEL);
+        this.level = 1;
+        this.size = 0;
+        this.random = random;
+    }
+
+    /**
+     * Returns the size of the indexed skip list
+     * @return how many elements the list has
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Picks the level of a new node, where every level is reached with probability 1/2
+     * @return the level of the new node
+     */
+    private int randomLevel()
+    {
+        int newLevel = 1;
+
+        while (newLevel < IndexedSkipList.MAX_LEVEL && this.random.nextBoolean()) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+
+    /**
+     * Finds the last node before the given index at every level
+     * @param index the index whose predecessors are searched
+     * @param previousNodes receives the last node before the index at every level
+     * @param previousIndexes receives the index of every one of those nodes, where the head is at -1
+     */
+    private void findPreviousNodes(int index, IndexedSkipListNode<list_t>[] previousNodes, int[] previousIndexes)
+    {
+        IndexedSkipListNode<list_t> currentNode = this.head;
+        int currentIndex = -1;
+
+        // Go as far right as possible on every level without reaching the index, then drop a level
+        for (int i = this.level - 1; i >= 0; i--)
+        {
+            while (currentNode.getNextNode(i) != null && currentIndex + currentNode.getSpan(i) < index) {
+                currentIndex += currentNode.getSpan(i);
+                currentNode = currentNode.getNextNode(i);
+            }
+            previousNodes[i] = currentNode;
+            previousIndexes[i] = currentIndex;
+        }
+    }
+
+    /**
+     * Returns the data at the given index of the indexed skip list
+     * @param index the index of the data
+     * @return the data at the given index, null if the index is not valid
+     */
+    public list_t getData(int index)
+    {
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size - 1) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return null;
+        }
+
+        IndexedSkipListNode<list_t> currentNode = this.head;
+        int currentIndex = -1;
+
+        // Go as far right as possible on every level without passing the index, then drop a level
+        for (int i = this.level - 1; i >= 0; i--) {
+            while (currentNode.getNextNode(i) != null && currentIndex + currentNode.getSpan(i) <= index) {
+                currentIndex += currentNode.getSpan(i);
+                currentNode = currentNode.getNextNode(i);
+            }
+        }
+
+        return currentNode.getData();
+    }
+
+    /**
+     * Inserts data to the end of the indexed skip list
+     * @param data the data to be inserted
+     */
+    @Override
+    public final boolean insertDataAtEnd(list_t data) {
+        return this.insertDataAtIndex(data, this.size);
+    }
+
+    /**
+     * Inserts data to the beginning of the indexed skip list
+     * @param data the data to be inserted
+     */
+    @Override
+    public final boolean insertDataAtStart(list_t data) {
+        return this.insertDataAtIndex(data, 0);
+    }
+
+    /**
+     * Inserts the given data to the given index of the indexed skip list
+     * @param data the data to be inserted
+     * @param index the index in witch the data is going to be inserted
+     */
+    @Override
+    public final boolean insertDataAtIndex(list_t data, int index)
+    {
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return false;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        IndexedSkipListNode<list_t>[] previousNodes = new IndexedSkipListNode[IndexedSkipList.MAX_LEVEL];
+        int[] previousIndexes = new int[IndexedSkipList.MAX_LEVEL];
+
+        this.findPreviousNodes(index, previousNodes, previousIndexes);
+
+        // If the new node is taller than the list, the head is its predecessor on the new levels
+        int newLevel = this.randomLevel();
+
+        for (int i = this.level; i < newLevel; i++) {
+            previousNodes[i] = this.head;
+            previousIndexes[i] = -1;
+            this.head.setNextNode(i, null);
+        }
+        if (newLevel > this.level) {
+            this.level = newLevel;
+        }
+
+        // Link the new node on its levels, splitting the span of every link it lands inside
+        IndexedSkipListNode<list_t> newNode = new IndexedSkipListNode<>(data, newLevel);
+
+        for (int i = 0; i < newLevel; i++)
+        {
+            IndexedSkipListNode<list_t> nextNode = previousNodes[i].getNextNode(i);
+
+            if (nextNode != null) {
+                newNode.setSpan(i, previousIndexes[i] + previousNodes[i].getSpan(i) + 1 - index);
+            }
+            newNode.setNextNode(i, nextNode);
+
+            previousNodes[i].setNextNode(i, newNode);
+            previousNodes[i].setSpan(i, index - previousIndexes[i]);
+        }
+
+        // Links above the new node now skip over one more node
+        for (int i = newLevel; i < this.level; i++) {
+            if (previousNodes[i].getNextNode(i) != null) {
+                previousNodes[i].setSpan(i, previousNodes[i].getSpan(i) + 1);
+            }
+        }
+        this.size++;
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the data at the end of the indexed skip list
+     */
+    @Override
+    public final list_t removeDataFromEnd()
+    {
+        // Checking if the list is empty. If so return null
+        if (this.size == 0) {
+            return null;
+        }
+        return this.removeDataFromIndex(this.size - 1);
+    }
+
+    /**
+     * Removes and returns the data from the beginning of the indexed skip list
+     * @return the first item in the list, null otherwise
+     */
+    @Override
+    public final list_t removeDataFromStart()
+    {
+        // Checking if the list is empty. If so return null
+        if (this.size == 0) {
+            return null;
+        }
+        return this.removeDataFromIndex(0);
+    }
+
+    /**
+     * Removes and returns the data at the given index inside the indexed skip list
+     * @param index the index from which the data will be removed
+     */
+    @Override
+    public final list_t removeDataFromIndex(int index)
+    {
+        // Checking if the list is empty. If so return null
+        if (this.size == 0) {
+            return null;
+        }
+
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size - 1) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return null;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        IndexedSkipListNode<list_t>[] previousNodes = new IndexedSkipListNode[IndexedSkipList.MAX_LEVEL];
+        int[] previousIndexes = new int[IndexedSkipList.MAX_LEVEL];
+
+        this.findPreviousNodes(index, previousNodes, previousIndexes);
+        IndexedSkipListNode<list_t> removedNode = previousNodes[0].getNextNode(0);
+
+        // Bypass the removed node on its levels, and shorten the links that skipped over it
+        for (int i = 0; i < this.level; i++)
+        {
+            if (previousNodes[i].getNextNode(i) == removedNode) {
+                previousNodes[i].setSpan(i, previousNodes[i].getSpan(i) + removedNode.getSpan(i) - 1);
+                previousNodes[i].setNextNode(i, removedNode.getNextNode(i));
+            }
+            else if (previousNodes[i].getNextNode(i) != null) {
+                previousNodes[i].setSpan(i, previousNodes[i].getSpan(i) - 1);
+            }
+        }
+
+        // Drop the levels that no longer hold any node
+        while (this.level > 1 && this.head.getNextNode(this.level - 1) == null) {
+            this.level--;
+        }
+        this.size--;
+
+        return removedNode.getData();
+    }
+
+    /**
+     * Overloading method for printing the indexed skip list object
+     * @return the list as a string
+     */
+    @Override
+    public String toString()
+    {
+        // Create a result string variable
+        StringBuilder response = new StringBuilder("[");
+        IndexedSkipListNode<list_t> currentNode = this.head.getNextNode(0);
+
+        // Loop through every node in the bottom level and store its data to the result string
+        while (currentNode != null)
+        {
+            response.append(currentNode.getData().toString());
+            if (currentNode.getNextNode(0) != null) {
+                response.append(IndexedSkipList.DEFAULT_SEPERATOR);
+            }
+            currentNode = currentNode.getNextNode(0);
+        }
+        response.append("]");
+
+        return response.toString();
+    }
+
+    /**
+     * Advanced printing of the indexed skip list's sequence of data
+     * @param seperator a character seperator for the data printing
+     */
+    @Override
+    public final void print(String seperator)
+    {
+        System.out.print("[");
+        IndexedSkipListNode<list_t> currentNode = this.head.getNextNode(0);
+
+        // Loop through every node in the bottom level and print its content
+        while (currentNode != null)
+        {
+            System.out.print(currentNode.getData());
+            if (currentNode.getNextNode(0) != null) { // Printing a seperator character if necessary
+                System.out.print(seperator);
+            }
+            currentNode = currentNode.getNextNode(0);
+        }
+        System.out.println("]");
+    }
+
+    /**
+     * Default printing of the indexed skip list's sequence of data
+     */
+    @Override
+    public final void print() {
+        this.print(IndexedSkipList.DEFAULT_SEPERATOR);
+    }
+
+    /**
+     * Searches for the give data in the list, comparing with equals
+     * @return true is data found, false if data not found
+     */
+    @Override
+    public boolean contains(list_t data)
+    {
+        // Search for the given data in the bottom level and if found return true
+        for (IndexedSkipListNode<list_t> currentNode = this.head.getNextNode(0); currentNode != null; currentNode = currentNode.getNextNode(0)) {
+            if (Objects.equals(currentNode.getData(), data)) {
+                return true;
+            }
+        }
+        return false; // Otherwise, no data found
+    }
+
+    /**
+     * Returns the index of the given data in the list, if exist
+     * @return the index of the data in the list, -1 if not exist
+     */
+    @Override
+    public int indexOf(list_t data)
+    {
+        int indexCounter = 0;
+
+        // Search for the given data in the bottom level and if found return its index
+        for (IndexedSkipListNode<list_t> currentNode = this.head.getNextNode(0); currentNode != null; currentNode = currentNode.getNextNode(0)) {
+            if (Objects.equals(currentNode.getData(), data)) {
+                return indexCounter;
+            }
+            indexCounter++;
+        }
+        return -1; // Otherwise return -1 indicating that the data was not found in the list
+    }
+
+    /**
+     * Iterable method to iterate the list using 'foreach' loop
+     * @return an iterator object
+     */
+    @Override
+    public Iterator<list_t> iterator()
+    {
+        // Construct a new iterator object that walks the bottom level
+        return new Iterator<>() {
+            private IndexedSkipListNode<list_t> currentNode = head.getNextNode(0);
+
+            @Override
+            public boolean hasNext() {
+                return currentNode != null; // Determine whether there is a next node in the sequence
+            }
+
+            @Override
+            public list_t next() {
+                // Return the data of the current node, and set it to the next one
+                list_t dataToReturn = currentNode.getData();
+                currentNode = currentNode.getNextNode(0);
+
+                return dataToReturn;
+            }
+        };
+    }
+
+    /**
+     * Returns the same list but reversed
+     * @return the reversed version of this list
+     */
+    @Override
+    public IndexedSkipList<list_t> getReveresedVersion()
+    {
+        // Initialize a new indexed skip list
+        IndexedSkipList<list_t> resultList = new IndexedSkipList<>();
+
+        // Loop through every element in the list and add it in the beginning of the reversed one
+        for (list_t data : this) {
+            resultList.insertDataAtStart(data);
+        }
+
+        return resultList;
+    }
+
+    /**
+     * Main function to test the indexed skip list against the simply linked list with random operations
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args)
+    {
+        Random random = new Random(2024);
+        IndexedSkipList<Integer> skipList = new IndexedSkipList<>(new Random(7));
+        SimplyLinkedList<Integer> simplyLinkedList = new SimplyLinkedList<>();
+
+        // Apply the same random positional operations to both lists and compare the results
+        for (int operation = 0; operation < 200_000; operation++)
+        {
+            int size = simplyLinkedList.getSize();
+            int index = random.nextInt(size + 1);
+            Integer data = random.nextInt(1_000);
+            Object expected, actual;
+
+            switch (random.nextInt(8)) {
+                case 0:  expected = simplyLinkedList.insertDataAtEnd(data);          actual = skipList.insertDataAtEnd(data);          break;
+                case 1:  expected = simplyLinkedList.insertDataAtStart(data);        actual = skipList.insertDataAtStart(data);        break;
+                case 2:
+                case 3:  expected = simplyLinkedList.insertDataAtIndex(data, index); actual = skipList.insertDataAtIndex(data, index); break;
+                case 4:  expected = simplyLinkedList.removeDataFromEnd();            actual = skipList.removeDataFromEnd();            break;
+                case 5:  expected = simplyLinkedList.removeDataFromStart();          actual = skipList.removeDataFromStart();          break;
+                case 6:
+                    if (size == 0) { continue; }
+                    expected = simplyLinkedList.removeDataFromIndex(index % size);
+                    actual = skipList.removeDataFromIndex(index % size);
+                    break;
+                default: expected = simplyLinkedList.indexOf(data);                  actual = skipList.indexOf(data);                  break;
+            }
+
+            if (expected == null ? actual != null : !expected.equals(actual)) {
+                throw new IllegalStateException("Operation " + operation + " returned " + actual + " instead of " + expected);
+            }
+            if (skipList.getSize() != simplyLinkedList.getSize()) {
+                throw new IllegalStateException("Operation " + operation + " left the lists with different sizes");
+            }
+        }
+
+        // Check every position and the iteration order
+        ArrayList<Integer> expectedOrder = new ArrayList<>();
+        simplyLinkedList.forEach(expectedOrder::add);
+
+        for (int i = 0; i < expectedOrder.size(); i++) {
+            if (!expectedOrder.get(i).equals(skipList.getData(i))) {
+                throw new IllegalStateException("Index " + i + " holds " + skipList.getData(i) + " instead of " + expectedOrder.get(i));
+            }
+        }
+        ArrayList<Integer> actualOrder = new ArrayList<>();
+        skipList.forEach(actualOrder::add);
+
+        if (!expectedOrder.equals(actualOrder)) {
+            throw new IllegalStateException("Iteration order differs from the simply linked list");
+        }
+        System.out.println("Differential test passed with " + skipList.getSize() + " elements left");
+
+        // Time positional inserts and removals in the middle of a long list
+        final int numberOfElements = 100_000;
+        IndexedSkipList<Integer> timedSkipList = new IndexedSkipList<>();
+        SimplyLinkedList<Integer> timedSimplyLinkedList = new SimplyLinkedList<>();
+
+        for (int i = 0; i < numberOfElements; i++) {
+            timedSkipList.insertDataAtEnd(i);
+            timedSimplyLinkedList.insertDataAtEnd(i);
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            timedSimplyLinkedList.insertDataAtIndex(i, numberOfElements / 2);
+            timedSimplyLinkedList.removeDataFromIndex(numberOfElements / 3);
+        }
+        long simplyLinkedListTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            timedSkipList.insertDataAtIndex(i, numberOfElements / 2);
+            timedSkipList.removeDataFromIndex(numberOfElements / 3);
+        }
+        long skipListTime = System.nanoTime() - startTime;
+
+        System.out.println("10^4 middle insert/remove pairs on 10^5 elements (simply linked list): " + (simplyLinkedListTime / 1_000_000) + " ms");
+        System.out.println("10^4 middle insert/remove pairs on 10^5 elements (indexed skip list):   " + (skipListTime / 1_000_000) + " ms");
+    }
+}
@@ -0,0 +1,85 @@
+package DataStructures.Lists.IndexedSkipList;
+
+/**
+ * A class that represents an indexed skip list node. Every level of the node keeps a forward link
+ * and the span of that link, which is how many nodes of the bottom level it skips over.
+ * @author Antonis Zikas
+ */
+public class IndexedSkipListNode <node_t>
+{
+    private node_t data;
+    private final IndexedSkipListNode<node_t>[] nextNodes;
+    private final int[] spans;
+
+    /**
+     * Constructor of the indexed skip list node
+     * @param data the data of the node
+     * @param level how many levels the node takes part in
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public IndexedSkipListNode(node_t data, int level) {
+        this.data = data;
+        this.nextNodes = new IndexedSkipListNode[level];
+        this.spans = new int[level];
+    }
+
+    /**
+     * Sets the data of the node
+     * @param data the new data of the node
+     */
+    public void setData(node_t data) {
+        this.data = data;
+    }
+
+    /**
+     * Returns the data of the node
+     * @return the node's data
+     */
+    public node_t getData() {
+        return this.data;
+    }
+
+    /**
+     * Returns how many levels the node takes part in
+     * @return the level of the node
+     */
+    public int getLevel() {
+        return this.nextNodes.length;
+    }
+
+    /**
+     * Sets the next node of the current one at the given level
+     * @param level the level of the link
+     * @param nextNode the next node at that level
+     */
+    public void setNextNode(int level, IndexedSkipListNode<node_t> nextNode) {
+        this.nextNodes[level] = nextNode;
+    }
+
+    /**
+     * Returns the next node of the current one at the given level
+     * @param level the level of the link
+     * @return the next node at that level
+     */
+    public IndexedSkipListNode<node_t> getNextNode(int level) {
+        return this.nextNodes[level];
+    }
+
+    /**
+     * Sets the span of the link at the given level
+     * @param level the level of the link
+     * @param span how many bottom level nodes the link skips over
+     */
+    public void setSpan(int level, int span) {
+        this.spans[level] = span;
+    }
+
+    /**
+     * Returns the span of the link at the given level
+     * @param level the level of the link
+     * @return how many bottom level nodes the link skips over
+     */
+    public int getSpan(int level) {
+        return this.spans[level];
+    }
+}
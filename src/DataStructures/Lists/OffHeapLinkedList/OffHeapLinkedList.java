@@ -0,0 +1,620 @@
+/* Filename: OffHeapLinkedList.java */
+
+package DataStructures.Lists.OffHeapLinkedList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedListMethods;
+import DataStructures.Utilities.BufferCleaner;
+
+/**
+ * A class that represents a simply linked list whose records live outside the Java heap. Every record is stored
+ * by a fixed-width codec in a slot of direct or memory-mapped memory, next to the int index of the next slot, so
+ * the garbage collector never sees the records. Memory is allocated in segments and must be released with close().
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class OffHeapLinkedList<list_t> implements SimplyLinkedListMethods<list_t>, AutoCloseable
+{
+    // Enumeration to define where the records are stored
+    public enum StorageMode { DIRECT, MAPPED }
+
+    private static final String DEFAULT_SEPERATOR = " -> "; // Default seperator character for the data printing
+    private static final int SEGMENT_BYTES = 1 << 20;        // Target size of every memory segment
+    private static final int NEXT_SLOT_BYTES = Integer.BYTES; // Every slot starts with the index of the next slot
+    private static final int NO_NODE = -1;                   // Slot index that marks the end of a sequence
+
+    // Storage of the slots
+    private final RecordCodec<list_t> codec;
+    private final StorageMode storageMode;
+    private final FileChannel channel;
+    private final ArrayList<ByteBuffer> segments;
+    private final int slotSize;
+    private final int slotsPerSegment;
+    private int usedSlots;
+    private boolean closed;
+
+    // Data of the off-heap linked list
+    private int head;
+    private int tail;
+    private int freeSlot; // First slot of the free list, which is threaded through the next slots
+    private int size;
+
+    /**
+     * Constructor of the off-heap linked list, which stores its records in direct memory
+     * @param codec the codec that stores every record in a fixed number of bytes
+     */
+    public OffHeapLinkedList(RecordCodec<list_t> codec) {
+        this(codec, StorageMode.DIRECT, null);
+    }
+
+    /**
+     * Constructor of the off-heap linked list, which stores its records in a memory-mapped file. The file is only
+     * scratch storage: it is created if needed, overwritten while the list is used, and kept after close()
+     * @param codec the codec that stores every record in a fixed number of bytes
+     * @param file the file that backs the memory of the list
+     */
+    public OffHeapLinkedList(RecordCodec<list_t> codec, Path file) {
+        this(codec, StorageMode.MAPPED, file);
+    }
+
+    /**
+     * Complex constructor of the off-heap linked list
+     * @param codec the codec that stores every record in a fixed number of bytes
+     * @param storageMode the mode of the list, whether it uses direct or memory-mapped memory
+     * @param file the file that backs the memory of the list, only used in mapped mode
+     */
+    private OffHeapLinkedList(RecordCodec<list_t> codec, StorageMode storageMode, Path file)
+    {
+        if (codec.getRecordSize() < 1) {
+            throw new IllegalArgumentException("Record size must be positive, got " + codec.getRecordSize());
+        }
+
+        this.codec = codec;
+        this.storageMode = storageMode;
+        this.segments = new ArrayList<>();
+        this.slotSize = OffHeapLinkedList.NEXT_SLOT_BYTES + codec.getRecordSize();
+        this.slotsPerSegment = Math.max(1, OffHeapLinkedList.SEGMENT_BYTES / this.slotSize);
+        this.usedSlots = 0;
+        this.closed = false;
+
+        try {
+            this.channel = (storageMode == StorageMode.MAPPED)
+                ? FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.head = OffHeapLinkedList.NO_NODE;
+        this.tail = OffHeapLinkedList.NO_NODE;
+        this.freeSlot = OffHeapLinkedList.NO_NODE;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the size of the off-heap linked list
+     * @return how many elements the list has
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the storage mode of the off-heap linked list
+     * @return whether the records are in direct or memory-mapped memory
+     */
+    public StorageMode getStorageMode() {
+        return this.storageMode;
+    }
+
+    /**
+     * Returns how many bytes of memory the list currently holds outside the heap
+     * @return the number of allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return (long) this.segments.size() * this.slotsPerSegment * this.slotSize;
+    }
+
+    /**
+     * Returns the segment that holds the given slot
+     * @param slot the index of the slot
+     * @return the buffer of the segment
+     */
+    private ByteBuffer segmentOf(int slot) {
+        return this.segments.get(slot / this.slotsPerSegment);
+    }
+
+    /**
+     * Returns the byte offset of the given slot inside its segment
+     * @param slot the index of the slot
+     * @return the offset of the slot
+     */
+    private int offsetOf(int slot) {
+        return (slot % this.slotsPerSegment) * this.slotSize;
+    }
+
+    /**
+     * Returns the index of the slot after the given one
+     * @param slot the index of the slot
+     * @return the index of the next slot, NO_NODE at the end of the list
+     */
+    private int nextSlot(int slot) {
+        return this.segmentOf(slot).getInt(this.offsetOf(slot));
+    }
+
+    /**
+     * Sets the index of the slot after the given one
+     * @param slot the index of the slot
+     * @param nextSlot the index of the next slot
+     */
+    private void setNextSlot(int slot, int nextSlot) {
+        this.segmentOf(slot).putInt(this.offsetOf(slot), nextSlot);
+    }
+
+    /**
+     * Decodes the record stored in the given slot
+     * @param slot the index of the slot
+     * @return the record of the slot
+     */
+    private list_t readSlot(int slot) {
+        return this.codec.decode(this.segmentOf(slot), this.offsetOf(slot) + OffHeapLinkedList.NEXT_SLOT_BYTES);
+    }
+
+    /**
+     * Adds a new segment of memory, either direct or mapped from the next region of the file
+     */
+    private void addSegment()
+    {
+        int segmentBytes = this.slotsPerSegment * this.slotSize;
+
+        if (this.storageMode == StorageMode.DIRECT) {
+            this.segments.add(ByteBuffer.allocateDirect(segmentBytes));
+            return;
+        }
+
+        try {
+            long position = (long) this.segments.size() * segmentBytes;
+            this.segments.add(this.channel.map(FileChannel.MapMode.READ_WRITE, position, segmentBytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns a free slot holding the given record, reusing removed slots before adding memory
+     * @param data the record of the new node
+     * @param nextSlot the index of the next slot in the sequence
+     * @return the index of the new slot
+     */
+    private int allocateSlot(list_t data, int nextSlot)
+    {
+        this.checkOpen();
+        int slot;
+
+        if (this.freeSlot != OffHeapLinkedList.NO_NODE) {
+            slot = this.freeSlot;
+            this.freeSlot = this.nextSlot(slot);
+        } else {
+            // Add a segment when every slot has been handed out
+            if (this.usedSlots == this.segments.size() * this.slotsPerSegment) {
+                this.addSegment();
+            }
+            slot = this.usedSlots++;
+        }
+
+        this.setNextSlot(slot, nextSlot);
+        this.codec.encode(data, this.segmentOf(slot), this.offsetOf(slot) + OffHeapLinkedList.NEXT_SLOT_BYTES);
+
+        return slot;
+    }
+
+    /**
+     * Unlinks the given slot and returns it to the free list
+     * @param previousSlot the slot before the one to unlink, NO_NODE if it is the head
+     * @param currentSlot the slot to unlink
+     * @return the record of the unlinked slot
+     */
+    private list_t unlinkSlot(int previousSlot, int currentSlot)
+    {
+        list_t removedData = this.readSlot(currentSlot);
+        int nextSlot = this.nextSlot(currentSlot);
+
+        if (previousSlot == OffHeapLinkedList.NO_NODE) {
+            this.head = nextSlot;
+        } else {
+            this.setNextSlot(previousSlot, nextSlot);
+        }
+
+        if (currentSlot == this.tail) {
+            this.tail = previousSlot;
+        }
+
+        this.setNextSlot(currentSlot, this.freeSlot);
+        this.freeSlot = currentSlot;
+        this.size--;
+
+        return removedData;
+    }
+
+    /**
+     * Checks that the memory of the list has not been released yet
+     */
+    private void checkOpen()
+    {
+        if (this.closed) {
+            throw new IllegalStateException("The memory of the list has been released");
+        }
+    }
+
+    /**
+     * Inserts data to the end of the off-heap linked list
+     * @param data the data to be inserted
+     */
+    @Override
+    public final boolean insertDataAtEnd(list_t data)
+    {
+        int newSlot = this.allocateSlot(data, OffHeapLinkedList.NO_NODE);
+
+        // Checking if the list is empty. If so the new slot is both the head and the tail
+        if (this.head == OffHeapLinkedList.NO_NODE) {
+            this.head = newSlot;
+        } else {
+            this.setNextSlot(this.tail, newSlot);
+        }
+        this.tail = newSlot; this.size++;
+
+        return true;
+    }
+
+    /**
+     * Inserts data to the beginning of the off-heap linked list
+     * @param data the data to be inserted
+     */
+    @Override
+    public final boolean insertDataAtStart(list_t data)
+    {
+        int newSlot = this.allocateSlot(data, this.head);
+
+        // Checking if the list is empty. If so the new slot is also the tail
+        if (this.head == OffHeapLinkedList.NO_NODE) {
+            this.tail = newSlot;
+        }
+        this.head = newSlot; this.size++;
+
+        return true;
+    }
+
+    /**
+     * Inserts the given data to the given index of the off-heap linked list
+     * @param data the data to be inserted
+     * @param index the index in witch the data is going to be inserted
+     */
+    @Override
+    public final boolean insertDataAtIndex(list_t data, int index)
+    {
+        // Checking if the given index is equal to the size of the list, or zero and do the appropriates
+        if (index == this.size) {
+            return this.insertDataAtEnd(data);
+        }
+        else if (index == 0) {
+            return this.insertDataAtStart(data);
+        }
+
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size - 1) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return false;
+        }
+
+        // Otherwise head over to the slot before the given index and link the new slot after it
+        int previousSlot = this.head;
+
+        for (int i = 0; i < index - 1; i++) {
+            previousSlot = this.nextSlot(previousSlot);
+        }
+
+        int newSlot = this.allocateSlot(data, this.nextSlot(previousSlot));
+        this.setNextSlot(previousSlot, newSlot);
+        this.size++;
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the data at the end of the off-heap linked list
+     */
+    @Override
+    public final list_t removeDataFromEnd()
+    {
+        // Checking if the list is empty. If so return null
+        if (this.head == OffHeapLinkedList.NO_NODE) {
+            return null;
+        }
+
+        // Head over to the slot before the tail, since it becomes the new tail
+        int previousSlot = OffHeapLinkedList.NO_NODE;
+
+        if (this.head != this.tail) {
+            previousSlot = this.head;
+
+            while (this.nextSlot(previousSlot) != this.tail) {
+                previousSlot = this.nextSlot(previousSlot);
+            }
+        }
+
+        return this.unlinkSlot(previousSlot, this.tail);
+    }
+
+    /**
+     * Removes and returns the data from the beginning of the off-heap linked list
+     * @return the first item in the list, null otherwise
+     */
+    @Override
+    public final list_t removeDataFromStart()
+    {
+        // Checking if the list is empty. If so return null
+        if (this.head == OffHeapLinkedList.NO_NODE) {
+            return null;
+        }
+
+        return this.unlinkSlot(OffHeapLinkedList.NO_NODE, this.head);
+    }
+
+    /**
+     * Removes and returns the data at the given index inside the off-heap linked list
+     * @param index the index from which the data will be removed
+     */
+    @Override
+    public final list_t removeDataFromIndex(int index)
+    {
+        // Checking if the list is empty. If so return null
+        if (this.head == OffHeapLinkedList.NO_NODE) {
+            return null;
+        }
+
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size - 1) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return null;
+        }
+
+        // Head over to the slot at the given index, keeping track of the previous one
+        int previousSlot = OffHeapLinkedList.NO_NODE;
+        int currentSlot = this.head;
+
+        for (int i = 0; i < index; i++) {
+            previousSlot = currentSlot;
+            currentSlot = this.nextSlot(currentSlot);
+        }
+
+        return this.unlinkSlot(previousSlot, currentSlot);
+    }
+
+    /**
+     * Releases the memory of the list right away. The list is empty and can not be used afterwards
+     */
+    @Override
+    public void close()
+    {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        // Free every segment, instead of waiting for the garbage collector to find the buffers
+        for (ByteBuffer segment : this.segments) {
+            BufferCleaner.unmap(segment);
+        }
+        this.segments.clear();
+
+        this.head = OffHeapLinkedList.NO_NODE;
+        this.tail = OffHeapLinkedList.NO_NODE;
+        this.freeSlot = OffHeapLinkedList.NO_NODE;
+        this.size = 0;
+        this.usedSlots = 0;
+
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Overloading method for printing the off-heap linked list object
+     * @return the list as a string
+     */
+    @Override
+    public String toString()
+    {
+        // Create a result string variable
+        StringBuilder response = new StringBuilder("[");
+
+        // Loop through every slot in the list and store its record to the result string
+        for (int currentSlot = this.head; currentSlot != OffHeapLinkedList.NO_NODE; currentSlot = this.nextSlot(currentSlot))
+        {
+            response.append(this.readSlot(currentSlot).toString());
+            if (this.nextSlot(currentSlot) != OffHeapLinkedList.NO_NODE) {
+                response.append(OffHeapLinkedList.DEFAULT_SEPERATOR);
+            }
+        }
+        response.append("]");
+
+        return response.toString();
+    }
+
+    /**
+     * Advanced printing of the off-heap linked list's sequence of data
+     * @param seperator a character seperator for the data printing
+     */
+    @Override
+    public final void print(String seperator)
+    {
+        System.out.print("[");
+
+        // Loop through every slot in the list and print its record
+        for (int currentSlot = this.head; currentSlot != OffHeapLinkedList.NO_NODE; currentSlot = this.nextSlot(currentSlot))
+        {
+            System.out.print(this.readSlot(currentSlot));
+            if (this.nextSlot(currentSlot) != OffHeapLinkedList.NO_NODE) { // Printing a seperator character if necessary
+                System.out.print(seperator);
+            }
+        }
+        System.out.println("]");
+    }
+
+    /**
+     * Default printing of the off-heap linked list's sequence of data
+     */
+    @Override
+    public final void print() {
+        this.print(OffHeapLinkedList.DEFAULT_SEPERATOR);
+    }
+
+    /**
+     * Searches for the give data in the list. Records are decoded, so they are compared with equals
+     * @return true is data found, false if data not found
+     */
+    @Override
+    public boolean contains(list_t data) {
+        return this.indexOf(data) != -1;
+    }
+
+    /**
+     * Returns the index of the given data in the list, if exist
+     * @return the index of the data in the list, -1 if not exist
+     */
+    @Override
+    public int indexOf(list_t data)
+    {
+        int indexCounter = 0;
+
+        // Search for the given data in the list and if found return its index
+        for (int currentSlot = this.head; currentSlot != OffHeapLinkedList.NO_NODE; currentSlot = this.nextSlot(currentSlot)) {
+            if (this.readSlot(currentSlot).equals(data)) {
+                return indexCounter;
+            }
+            indexCounter++;
+        }
+        return -1; // Otherwise return -1 indicating that the data was not found in the list
+    }
+
+    /**
+     * Iterable method to iterate the list using 'foreach' loop. Every record is decoded when it is reached
+     * @return an iterator object
+     */
+    @Override
+    public Iterator<list_t> iterator()
+    {
+        // Construct a new iterator object and return it
+        return new Iterator<>() {
+            private int currentSlot = head;
+
+            @Override
+            public boolean hasNext() {
+                return currentSlot != OffHeapLinkedList.NO_NODE; // Determine whether there is a next slot in the sequence
+            }
+
+            @Override
+            public list_t next() {
+                if (currentSlot == OffHeapLinkedList.NO_NODE) {
+                    throw new NoSuchElementException();
+                }
+
+                // Return the record of the current slot, and set it to the next one
+                list_t dataToReturn = readSlot(currentSlot);
+                currentSlot = nextSlot(currentSlot);
+
+                return dataToReturn;
+            }
+        };
+    }
+
+    /**
+     * Returns the same list but reversed, stored in direct memory with the same codec. It must be closed as well
+     * @return the reversed version of this list
+     */
+    @Override
+    public OffHeapLinkedList<list_t> getReveresedVersion()
+    {
+        // Initialize a new off-heap linked list with the same codec
+        OffHeapLinkedList<list_t> resultList = new OffHeapLinkedList<>(this.codec);
+
+        // Loop through every record in the list and add it in the beginning of the reversed one
+        for (int currentSlot = this.head; currentSlot != OffHeapLinkedList.NO_NODE; currentSlot = this.nextSlot(currentSlot)) {
+            resultList.insertDataAtStart(this.readSlot(currentSlot));
+        }
+
+        return resultList;
+    }
+
+    /**
+     * Main function to test the off-heap linked list with a codec for pairs of ints
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args) throws IOException
+    {
+        // A codec that stores an int[2] in 8 bytes
+        RecordCodec<int[]> pairCodec = new RecordCodec<>() {
+            @Override
+            public int getRecordSize() {
+                return 2 * Integer.BYTES;
+            }
+
+            @Override
+            public void encode(int[] record, ByteBuffer buffer, int offset) {
+                buffer.putInt(offset, record[0]);
+                buffer.putInt(offset + Integer.BYTES, record[1]);
+            }
+
+            @Override
+            public int[] decode(ByteBuffer buffer, int offset) {
+                return new int[] { buffer.getInt(offset), buffer.getInt(offset + Integer.BYTES) };
+            }
+        };
+
+        Path file = Files.createTempFile("off-heap-list", ".bin");
+
+        try (OffHeapLinkedList<int[]> directList = new OffHeapLinkedList<>(pairCodec);
+             OffHeapLinkedList<int[]> mappedList = new OffHeapLinkedList<>(pairCodec, file))
+        {
+            final int numberOfRecords = 1_000_000;
+
+            for (OffHeapLinkedList<int[]> list : java.util.List.of(directList, mappedList))
+            {
+                long startTime = System.nanoTime();
+
+                for (int i = 0; i < numberOfRecords; i++) {
+                    list.insertDataAtEnd(new int[] { i, -i });
+                }
+                list.insertDataAtIndex(new int[] { 7, 7 }, 3);
+                list.removeDataFromStart();
+
+                long checksum = 0;
+                for (int[] record : list) {
+                    checksum += record[0] + record[1];
+                }
+
+                long elapsedTime = System.nanoTime() - startTime;
+                System.out.println(list.getStorageMode() + ": " + list.getSize() + " records in " + (list.getAllocatedBytes() >> 20)
+                    + " MiB off the heap, checksum " + checksum + ", " + (elapsedTime / 1_000_000) + " ms");
+            }
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
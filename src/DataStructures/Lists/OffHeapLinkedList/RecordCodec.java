@@ -0,0 +1,17 @@
+package DataStructures.Lists.OffHeapLinkedList;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Public interface for the codecs that store records in a fixed number of bytes
+ * @author Antonis Zikas
+ */
+public interface RecordCodec<record_t>
+{
+    /* Size Methods */
+    int getRecordSize();
+
+    /* Encoding Methods */
+    void encode(record_t record, ByteBuffer buffer, int offset);
+    record_t decode(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,424 @@
+/* Filename: PersistentLinkedList.java */
+
+package DataStructures.Lists.PersistentLinkedList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
+
+/**
+ * A class that represents a persistent linked list. A list never changes once created: every update returns a new
+ * version, and the versions share their common nodes. Inserting to or removing from the start takes O(1) and
+ * shares the whole rest of the list, so any version can be handed to readers as a snapshot without locking.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public final class PersistentLinkedList<list_t> implements Iterable<list_t>
+{
+    private static final String DEFAULT_SEPERATOR = " -> "; // Default seperator character for the data printing
+    private static final PersistentLinkedList<?> EMPTY = new PersistentLinkedList<>(null, 0);
+
+    private final PersistentLinkedListNode<list_t> head;
+    private final int size;
+
+    /**
+     * Constructor of the persistent linked list
+     * @param head the first node of the version
+     * @param size how many nodes the version has
+     */
+    private PersistentLinkedList(PersistentLinkedListNode<list_t> head, int size) {
+        this.head = head;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty persistent linked list
+     * @return a list with no elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <list_t> PersistentLinkedList<list_t> empty() {
+        return (PersistentLinkedList<list_t>) PersistentLinkedList.EMPTY;
+    }
+
+    /**
+     * Returns a persistent linked list with the data of the given list, in the same order
+     * @param list the list to copy
+     * @return a persistent version of the list
+     */
+    public static <list_t> PersistentLinkedList<list_t> fromList(Iterable<? extends list_t> list)
+    {
+        // Build the chain front to back through a mutable list, since the nodes can not be linked afterwards
+        SimplyLinkedList<list_t> reversedList = new SimplyLinkedList<>();
+
+        for (list_t data : list) {
+            reversedList.insertDataAtStart(data);
+        }
+
+        PersistentLinkedList<list_t> resultList = PersistentLinkedList.empty();
+
+        for (list_t data : reversedList) {
+            resultList = resultList.insertDataAtStart(data);
+        }
+
+        return resultList;
+    }
+
+    /**
+     * Returns the size of the persistent linked list
+     * @return how many elements the list has
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether the persistent linked list has no elements
+     * @return true if the list is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return this.head == null;
+    }
+
+    /**
+     * Returns a new version with the given data at the beginning, sharing every node of this one
+     * @param data the data to be inserted
+     * @return the new version of the list
+     */
+    public PersistentLinkedList<list_t> insertDataAtStart(list_t data) {
+        return new PersistentLinkedList<>(new PersistentLinkedListNode<>(data, this.head), this.size + 1);
+    }
+
+    /**
+     * Returns the data at the beginning of the persistent linked list
+     * @return the first item in the list, null otherwise
+     */
+    public list_t getFirstData() {
+        return (this.head == null) ? null : this.head.getData();
+    }
+
+    /**
+     * Returns a new version without the data at the beginning, sharing every other node of this one
+     * @return the new version of the list, this one if it is empty
+     */
+    public PersistentLinkedList<list_t> removeDataFromStart()
+    {
+        // Checking if the list is empty. If so there is nothing to remove
+        if (this.head == null) {
+            return this;
+        }
+
+        return (this.size == 1) ? PersistentLinkedList.empty() : new PersistentLinkedList<>(this.head.getNextNode(), this.size - 1);
+    }
+
+    /**
+     * Returns a new version with the given data at the end. Every node is copied, so this takes O(n)
+     * @param data the data to be inserted
+     * @return the new version of the list
+     */
+    public PersistentLinkedList<list_t> insertDataAtEnd(list_t data) {
+        return this.insertDataAtIndex(data, this.size);
+    }
+
+    /**
+     * Returns a new version with the given data at the given index. The nodes before the index are copied and the
+     * rest are shared
+     * @param data the data to be inserted
+     * @param index the index in witch the data is going to be inserted
+     * @return the new version of the list, this one if the index is invalid
+     */
+    public PersistentLinkedList<list_t> insertDataAtIndex(list_t data, int index)
+    {
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return this;
+        }
+
+        PersistentLinkedListNode<list_t> newNode = new PersistentLinkedListNode<>(data, this.nodeAt(index));
+
+        return new PersistentLinkedList<>(this.copyPrefix(this.head, index, newNode), this.size + 1);
+    }
+
+    /**
+     * Returns a new version without the data at the given index. The nodes before the index are copied and the
+     * rest are shared
+     * @param index the index from which the data will be removed
+     * @return the new version of the list, this one if the index is invalid
+     */
+    public PersistentLinkedList<list_t> removeDataFromIndex(int index)
+    {
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size - 1) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return this;
+        }
+
+        if (this.size == 1) {
+            return PersistentLinkedList.empty();
+        }
+
+        return new PersistentLinkedList<>(this.copyPrefix(this.head, index, this.nodeAt(index).getNextNode()), this.size - 1);
+    }
+
+    /**
+     * Returns the node at the given index
+     * @param index the index of the node, the size of the list for the end of it
+     * @return the node at the index, null past the last one
+     */
+    private PersistentLinkedListNode<list_t> nodeAt(int index)
+    {
+        PersistentLinkedListNode<list_t> currentNode = this.head;
+
+        for (int i = 0; i < index; i++) {
+            currentNode = currentNode.getNextNode();
+        }
+
+        return currentNode;
+    }
+
+    /**
+     * Copies the first nodes of a chain and links the copy to the given rest of the chain
+     * @param firstNode the first node to copy
+     * @param count how many nodes to copy
+     * @param restNode the node that follows the last copy
+     * @return the first node of the new chain
+     */
+    @SuppressWarnings("unchecked")
+    private PersistentLinkedListNode<list_t> copyPrefix(PersistentLinkedListNode<list_t> firstNode, int count, PersistentLinkedListNode<list_t> restNode)
+    {
+        // Collect the data first, because the nodes must be created from the back to the front
+        Object[] prefixData = new Object[count];
+        PersistentLinkedListNode<list_t> currentNode = firstNode;
+
+        for (int i = 0; i < count; i++) {
+            prefixData[i] = currentNode.getData();
+            currentNode = currentNode.getNextNode();
+        }
+
+        PersistentLinkedListNode<list_t> resultNode = restNode;
+
+        for (int i = count - 1; i >= 0; i--) {
+            resultNode = new PersistentLinkedListNode<>((list_t) prefixData[i], resultNode);
+        }
+
+        return resultNode;
+    }
+
+    /**
+     * Returns the data at the given index of the persistent linked list
+     * @param index the index of the data
+     * @return the data at the index, null if the index is invalid
+     */
+    public list_t getData(int index)
+    {
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size - 1) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return null;
+        }
+
+        return this.nodeAt(index).getData();
+    }
+
+    /**
+     * Searches for the give data in the list, comparing with equals
+     * @return true is data found, false if data not found
+     */
+    public boolean contains(list_t data) {
+        return this.indexOf(data) != -1;
+    }
+
+    /**
+     * Returns the index of the given data in the list, if exist
+     * @return the index of the data in the list, -1 if not exist
+     */
+    public int indexOf(list_t data)
+    {
+        int indexCounter = 0;
+
+        // Search for the given data in the list and if found return its index
+        for (PersistentLinkedListNode<list_t> currentNode = this.head; currentNode != null; currentNode = currentNode.getNextNode()) {
+            if (Objects.equals(currentNode.getData(), data)) {
+                return indexCounter;
+            }
+            indexCounter++;
+        }
+        return -1; // Otherwise return -1 indicating that the data was not found in the list
+    }
+
+    /**
+     * Returns the same list but reversed. Nothing can be shared, so every node is copied
+     * @return the reversed version of this list
+     */
+    public PersistentLinkedList<list_t> getReveresedVersion()
+    {
+        PersistentLinkedList<list_t> resultList = PersistentLinkedList.empty();
+
+        for (list_t data : this) {
+            resultList = resultList.insertDataAtStart(data);
+        }
+
+        return resultList;
+    }
+
+    /**
+     * Returns a mutable simply linked list with the data of this version
+     * @return a new simply linked list
+     */
+    public SimplyLinkedList<list_t> toMutableList()
+    {
+        SimplyLinkedList<list_t> resultList = new SimplyLinkedList<>();
+        resultList.insertAll(this);
+
+        return resultList;
+    }
+
+    /**
+     * Overloading method for printing the persistent linked list object
+     * @return the list as a string
+     */
+    @Override
+    public String toString()
+    {
+        // Create a result string variable
+        StringBuilder response = new StringBuilder("[");
+
+        // Loop through every node in the list and store its data to the result string
+        for (PersistentLinkedListNode<list_t> currentNode = this.head; currentNode != null; currentNode = currentNode.getNextNode())
+        {
+            response.append(currentNode.getData());
+            if (currentNode.getNextNode() != null) {
+                response.append(PersistentLinkedList.DEFAULT_SEPERATOR);
+            }
+        }
+        response.append("]");
+
+        return response.toString();
+    }
+
+    /**
+     * Iterable method to iterate the list using 'foreach' loop
+     * @return an iterator object
+     */
+    @Override
+    public Iterator<list_t> iterator()
+    {
+        // Construct a new iterator object and return it
+        return new Iterator<>() {
+            private PersistentLinkedListNode<list_t> currentNode = head;
+
+            @Override
+            public boolean hasNext() {
+                return currentNode != null; // Determine whether there is a next node in the sequence
+            }
+
+            @Override
+            public list_t next() {
+                if (currentNode == null) {
+                    throw new NoSuchElementException();
+                }
+
+                // Return the data of the current node, and set it to the next node
+                list_t dataToReturn = currentNode.getData();
+                currentNode = currentNode.getNextNode();
+
+                return dataToReturn;
+            }
+        };
+    }
+
+    /**
+     * Main function to compare snapshot readers of the persistent linked list against readers that copy a
+     * simply linked list under a lock
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        final int numberOfElements = 10_000;
+        final int numberOfReaders = 4;
+        final long durationMillis = 1_000;
+
+        SimplyLinkedList<Integer> mutableList = new SimplyLinkedList<>();
+        for (int i = 0; i < numberOfElements; i++) {
+            mutableList.insertDataAtEnd(i);
+        }
+
+        // Versions share their nodes, so an old snapshot is unaffected by newer ones
+        PersistentLinkedList<Integer> snapshot = PersistentLinkedList.fromList(mutableList);
+        PersistentLinkedList<Integer> newerVersion = snapshot.removeDataFromStart().insertDataAtStart(-1);
+        System.out.println("Snapshot starts with " + snapshot.getFirstData() + ", newer version with " + newerVersion.getFirstData()
+            + ", both with " + snapshot.getSize() + " elements");
+
+        // Snapshot readers: the writer publishes a new version and the readers iterate whatever version they get
+        AtomicReference<PersistentLinkedList<Integer>> currentVersion = new AtomicReference<>(snapshot);
+        long persistentReads = runReaders(numberOfReaders, durationMillis,
+            () -> {
+                PersistentLinkedList<Integer> version = currentVersion.get();
+                currentVersion.set(version.removeDataFromStart().insertDataAtStart(version.getFirstData() + 1));
+            },
+            () -> {
+                long sum = 0;
+                for (Integer data : currentVersion.get()) { sum += data; }
+                return sum;
+            });
+
+        // Copy-on-read: the writer and every reader share a lock, and the readers copy the list before iterating
+        long copyingReads = runReaders(numberOfReaders, durationMillis,
+            () -> {
+                synchronized (mutableList) {
+                    mutableList.insertDataAtStart(mutableList.removeDataFromStart() + 1);
+                }
+            },
+            () -> {
+                SimplyLinkedList<Integer> copy = new SimplyLinkedList<>();
+                synchronized (mutableList) { copy.insertAll(mutableList); }
+
+                long sum = 0;
+                for (Integer data : copy) { sum += data; }
+                return sum;
+            });
+
+        System.out.println("Persistent snapshots: " + (persistentReads * 1_000 / durationMillis) + " reads/s of " + numberOfElements + " elements");
+        System.out.println("Copy-on-read:         " + (copyingReads * 1_000 / durationMillis) + " reads/s of " + numberOfElements + " elements");
+    }
+
+    /**
+     * Runs a writer and some readers for the given time
+     * @param numberOfReaders how many reader threads to start
+     * @param durationMillis how long to run, in milliseconds
+     * @param writer the update the writer repeats
+     * @param reader the read every reader repeats, returning a value so the read is not optimized away
+     * @return how many reads completed
+     */
+    private static long runReaders(int numberOfReaders, long durationMillis, Runnable writer, LongSupplier reader) throws InterruptedException
+    {
+        AtomicLong completedReads = new AtomicLong();
+        AtomicLong checksum = new AtomicLong();
+        long endTime = System.nanoTime() + durationMillis * 1_000_000;
+
+        Thread[] threads = new Thread[numberOfReaders + 1];
+        threads[0] = new Thread(() -> {
+            while (System.nanoTime() < endTime) { writer.run(); }
+        });
+
+        for (int i = 1; i <= numberOfReaders; i++) {
+            threads[i] = new Thread(() -> {
+                long reads = 0, sum = 0;
+                while (System.nanoTime() < endTime) { sum += reader.getAsLong(); reads++; }
+
+                completedReads.addAndGet(reads);
+                checksum.addAndGet(sum);
+            });
+        }
+
+        for (Thread thread : threads) { thread.start(); }
+        for (Thread thread : threads) { thread.join(); }
+
+        return completedReads.get();
+    }
+}
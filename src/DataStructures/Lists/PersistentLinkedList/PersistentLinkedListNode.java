@@ -0,0 +1,38 @@
+package DataStructures.Lists.PersistentLinkedList;
+
+/**
+ * A class that represents a persistent linked list node. Nodes never change once created, so every version of
+ * the list that reaches a node can share it.
+ * @author Antonis Zikas
+ */
+public class PersistentLinkedListNode <node_t>
+{
+    private final node_t data;
+    private final PersistentLinkedListNode<node_t> nextNode;
+
+    /**
+     * Constructor of the persistent linked list node
+     * @param data the data of the node
+     * @param nextNode the next node in the sequence
+     */
+    public PersistentLinkedListNode(node_t data, PersistentLinkedListNode<node_t> nextNode) {
+        this.data = data;
+        this.nextNode = nextNode;
+    }
+
+    /**
+     * Returns the data of the node
+     * @return the node's data
+     */
+    public node_t getData() {
+        return this.data;
+    }
+
+    /**
+     * Returns the next node of the current one
+     * @return the next node in the sequence
+     */
+    public PersistentLinkedListNode<node_t> getNextNode() {
+        return this.nextNode;
+    }
+}
@@ -0,0 +1,408 @@
+/* Filename: DoubleSimplyLinkedList.java */
+
+package DataStructures.Lists.SimplyLinkedList;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A class that represents a simply linked list of primitive double values. The nodes live in parallel arrays
+ * and are linked through their slot indices, so no element is ever boxed and no object is allocated per element.
+ * Removed slots are kept in a free list and reused by later inserts.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class DoubleSimplyLinkedList
+{
+    private static final String DEFAULT_SEPERATOR = " -> "; // Default seperator character for the data printing
+    private static final int DEFAULT_CAPACITY = 16;         // Default number of slots allocated up front
+    private static final int NO_NODE = -1;                  // Slot index that marks the end of a sequence
+
+    // Node storage, where slot i holds the data of a node and the slot of the next node
+    private double[] values;
+    private int[] nextNodes;
+    private int usedSlots;
+
+    // Data of the simply linked list
+    private int head;
+    private int tail;
+    private int freeSlot; // First slot of the free list, which is threaded through the next slots
+    private int size;
+
+    /**
+     * Constructor of the double simply linked list
+     */
+    public DoubleSimplyLinkedList() {
+        this(DoubleSimplyLinkedList.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor of the double simply linked list with an initial capacity
+     * @param initialCapacity how many elements the list can hold before it grows
+     */
+    public DoubleSimplyLinkedList(int initialCapacity)
+    {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be positive, got " + initialCapacity);
+        }
+
+        this.values = new double[initialCapacity];
+        this.nextNodes = new int[initialCapacity];
+        this.usedSlots = 0;
+
+        this.head = DoubleSimplyLinkedList.NO_NODE;
+        this.tail = DoubleSimplyLinkedList.NO_NODE;
+        this.freeSlot = DoubleSimplyLinkedList.NO_NODE;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the size of the double simply linked list
+     * @return how many elements the list has
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns a free slot for a new node, reusing removed slots before growing the storage
+     * @param data the data of the new node
+     * @param nextNode the slot of the next node in the sequence
+     * @return the slot of the new node
+     */
+    private int allocateSlot(double data, int nextNode)
+    {
+        int slot;
+
+        if (this.freeSlot != DoubleSimplyLinkedList.NO_NODE) {
+            slot = this.freeSlot;
+            this.freeSlot = this.nextNodes[slot];
+        } else {
+            // Double the storage when every slot has been handed out
+            if (this.usedSlots == this.values.length) {
+                int newCapacity = this.values.length * 2;
+                this.values = Arrays.copyOf(this.values, newCapacity);
+                this.nextNodes = Arrays.copyOf(this.nextNodes, newCapacity);
+            }
+            slot = this.usedSlots++;
+        }
+
+        this.values[slot] = data;
+        this.nextNodes[slot] = nextNode;
+
+        return slot;
+    }
+
+    /**
+     * Unlinks the given node and returns its slot to the free list
+     * @param previousNode the slot before the one to unlink, NO_NODE if it is the head
+     * @param currentNode the slot to unlink
+     * @return the data of the unlinked node
+     */
+    private double unlinkSlot(int previousNode, int currentNode)
+    {
+        if (previousNode == DoubleSimplyLinkedList.NO_NODE) {
+            this.head = this.nextNodes[currentNode];
+        } else {
+            this.nextNodes[previousNode] = this.nextNodes[currentNode];
+        }
+
+        if (currentNode == this.tail) {
+            this.tail = previousNode;
+        }
+
+        this.nextNodes[currentNode] = this.freeSlot;
+        this.freeSlot = currentNode;
+        this.size--;
+
+        return this.values[currentNode];
+    }
+
+    /**
+     * Inserts data to the end of the double simply linked list
+     * @param data the data to be inserted
+     */
+    public final boolean insertDataAtEnd(double data)
+    {
+        int newNode = this.allocateSlot(data, DoubleSimplyLinkedList.NO_NODE);
+
+        // Checking if the list is empty. If so the new node is both the head and the tail
+        if (this.head == DoubleSimplyLinkedList.NO_NODE) {
+            this.head = newNode;
+        } else {
+            this.nextNodes[this.tail] = newNode;
+        }
+        this.tail = newNode; this.size++;
+
+        return true;
+    }
+
+    /**
+     * Inserts data to the beginning of the double simply linked list
+     * @param data the data to be inserted
+     */
+    public final boolean insertDataAtStart(double data)
+    {
+        int newNode = this.allocateSlot(data, this.head);
+
+        // Checking if the list is empty. If so the new node is also the tail
+        if (this.head == DoubleSimplyLinkedList.NO_NODE) {
+            this.tail = newNode;
+        }
+        this.head = newNode; this.size++;
+
+        return true;
+    }
+
+    /**
+     * Inserts the given data to the given index of the double simply linked list
+     * @param data the data to be inserted
+     * @param index the index in witch the data is going to be inserted
+     */
+    public final boolean insertDataAtIndex(double data, int index)
+    {
+        // Checking if the given index is equal to the size of the list, or zero and do the appropriates
+        if (index == this.size) {
+            return this.insertDataAtEnd(data);
+        }
+        else if (index == 0) {
+            return this.insertDataAtStart(data);
+        }
+
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size - 1) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return false;
+        }
+
+        // Otherwise head over to the node before the given index and link the new node after it
+        int previousNode = this.head;
+
+        for (int i = 0; i < index - 1; i++) {
+            previousNode = this.nextNodes[previousNode];
+        }
+
+        int newNode = this.allocateSlot(data, this.nextNodes[previousNode]);
+        this.nextNodes[previousNode] = newNode;
+        this.size++;
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the data at the end of the double simply linked list
+     * @return the last item in the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    public final double removeDataFromEnd()
+    {
+        // Checking if the list is empty
+        if (this.head == DoubleSimplyLinkedList.NO_NODE) {
+            throw new NoSuchElementException("List is empty");
+        }
+
+        // Head over to the node before the tail, since it becomes the new tail
+        int previousNode = DoubleSimplyLinkedList.NO_NODE;
+
+        if (this.head != this.tail) {
+            previousNode = this.head;
+
+            while (this.nextNodes[previousNode] != this.tail) {
+                previousNode = this.nextNodes[previousNode];
+            }
+        }
+
+        return this.unlinkSlot(previousNode, this.tail);
+    }
+
+    /**
+     * Removes and returns the data from the beginning of the double simply linked list
+     * @return the first item in the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    public final double removeDataFromStart()
+    {
+        // Checking if the list is empty
+        if (this.head == DoubleSimplyLinkedList.NO_NODE) {
+            throw new NoSuchElementException("List is empty");
+        }
+
+        return this.unlinkSlot(DoubleSimplyLinkedList.NO_NODE, this.head);
+    }
+
+    /**
+     * Removes and returns the data at the given index inside the double simply linked list
+     * @param index the index from which the data will be removed
+     * @return the item at the given index
+     * @throws IndexOutOfBoundsException if the index is not inside the list
+     */
+    public final double removeDataFromIndex(int index)
+    {
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size - 1) {
+            throw new IndexOutOfBoundsException("Error accessing index " + index + ". List has " + this.size + " elements.");
+        }
+
+        // Head over to the node at the given index, keeping track of the previous one
+        int previousNode = DoubleSimplyLinkedList.NO_NODE;
+        int currentNode = this.head;
+
+        for (int i = 0; i < index; i++) {
+            previousNode = currentNode;
+            currentNode = this.nextNodes[currentNode];
+        }
+
+        return this.unlinkSlot(previousNode, currentNode);
+    }
+
+    /**
+     * Searches for the give data in the list
+     * @return true is data found, false if data not found
+     */
+    public boolean contains(double data) {
+        return this.indexOf(data) != -1;
+    }
+
+    /**
+     * Returns the index of the given data in the list, if exist. Values are compared like Double.equals does,
+     * so NaN can be found and 0.0 is different from -0.0
+     * @return the index of the data in the list, -1 if not exist
+     */
+    public int indexOf(double data)
+    {
+        int indexCounter = 0;
+
+        // Search for the given data in the list and if found return its index
+        for (int currentNode = this.head; currentNode != DoubleSimplyLinkedList.NO_NODE; currentNode = this.nextNodes[currentNode]) {
+            if (Double.compare(this.values[currentNode], data) == 0) {
+                return indexCounter;
+            }
+            indexCounter++;
+        }
+        return -1; // Otherwise return -1 indicating that the data was not found in the list
+    }
+
+    /**
+     * Returns a primitive iterator over the list, so the elements are never boxed
+     * @return an iterator object
+     */
+    public PrimitiveIterator.OfDouble iterator()
+    {
+        // Construct a new iterator object and return it
+        return new PrimitiveIterator.OfDouble() {
+            private int currentNode = head;
+
+            @Override
+            public boolean hasNext() {
+                return currentNode != DoubleSimplyLinkedList.NO_NODE; // Determine whether there is a next node in the sequence
+            }
+
+            @Override
+            public double nextDouble() {
+                if (currentNode == DoubleSimplyLinkedList.NO_NODE) {
+                    throw new NoSuchElementException();
+                }
+
+                // Return the data of the current node, and set it to the next one
+                double dataToReturn = values[currentNode];
+                currentNode = nextNodes[currentNode];
+
+                return dataToReturn;
+            }
+        };
+    }
+
+    /**
+     * Returns the same list but reversed
+     * @return the reversed version of this list
+     */
+    public DoubleSimplyLinkedList getReveresedVersion()
+    {
+        // Initialize a new list with enough room for every element
+        DoubleSimplyLinkedList resultList = new DoubleSimplyLinkedList(Math.max(this.size, 1));
+
+        // Loop through every node in the list and add it in the beginning of the reversed one
+        for (int currentNode = this.head; currentNode != DoubleSimplyLinkedList.NO_NODE; currentNode = this.nextNodes[currentNode]) {
+            resultList.insertDataAtStart(this.values[currentNode]);
+        }
+
+        return resultList;
+    }
+
+    /**
+     * Overloading method for printing the double simply linked list object
+     * @return the list as a string
+     */
+    @Override
+    public String toString()
+    {
+        // Create a result string variable
+        StringBuilder response = new StringBuilder("[");
+
+        // Loop through every node in the list and store its data to the result string
+        for (int currentNode = this.head; currentNode != DoubleSimplyLinkedList.NO_NODE; currentNode = this.nextNodes[currentNode])
+        {
+            response.append(this.values[currentNode]);
+            if (this.nextNodes[currentNode] != DoubleSimplyLinkedList.NO_NODE) {
+                response.append(DoubleSimplyLinkedList.DEFAULT_SEPERATOR);
+            }
+        }
+        response.append("]");
+
+        return response.toString();
+    }
+
+    /**
+     * Advanced printing of the double simply linked list's sequence of data
+     * @param seperator a character seperator for the data printing
+     */
+    public final void print(String seperator)
+    {
+        System.out.print("[");
+
+        // Loop through every node in the list and print its content
+        for (int currentNode = this.head; currentNode != DoubleSimplyLinkedList.NO_NODE; currentNode = this.nextNodes[currentNode])
+        {
+            System.out.print(this.values[currentNode]);
+            if (this.nextNodes[currentNode] != DoubleSimplyLinkedList.NO_NODE) { // Printing a seperator character if necessary
+                System.out.print(seperator);
+            }
+        }
+        System.out.println("]");
+    }
+
+    /**
+     * Default printing of the double simply linked list's sequence of data
+     */
+    public final void print() {
+        this.print(DoubleSimplyLinkedList.DEFAULT_SEPERATOR);
+    }
+
+    /**
+     * Main function to test the double simply linked list class and its functionality
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args)
+    {
+        DoubleSimplyLinkedList list = new DoubleSimplyLinkedList();
+
+        for (int i = 0; i < 5; i++) {
+            list.insertDataAtEnd(1000 + i * 0.5); // Values are compared the way Double.equals compares them
+        }
+        list.insertDataAtStart(7);
+        list.insertDataAtIndex(42, 3);
+
+        list.print();
+        System.out.println("Contains 1002.0: " + list.contains(1002.0) + ", index of 42: " + list.indexOf(42));
+        System.out.println("Removed " + list.removeDataFromStart() + ", " + list.removeDataFromEnd() + " and " + list.removeDataFromIndex(2));
+        System.out.println(list + " reversed is " + list.getReveresedVersion());
+
+        // Iterate the list without boxing any element
+        double sum = 0;
+        for (PrimitiveIterator.OfDouble iterator = list.iterator(); iterator.hasNext(); ) {
+            sum += iterator.nextDouble();
+        }
+        System.out.println("Sum: " + sum);
+    }
+}
@@ -0,0 +1,21 @@
+/* Filename: ElementSerializer.java */
+
+package DataStructures.Lists.SimplyLinkedList;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Public interface for the serializers that store the elements of a simply linked list, or the spilled items of a
+ * spilling queue, in a binary file. Elements are written and read at the current position of the buffer, which they
+ * must leave right after their bytes
+ * @author Antonis Zikas
+ */
+public interface ElementSerializer<list_t>
+{
+    /* Size Methods */
+    int getSerializedSize(list_t data);
+
+    /* Serializing Methods */
+    void serialize(list_t data, ByteBuffer buffer);
+    list_t deserialize(ByteBuffer buffer);
+}
@@ -0,0 +1,105 @@
+package DataStructures.Lists.SimplyLinkedList;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A simply linked list node loaded from a saved file, whose next node is only decoded when it is first reached.
+ * Once the next node is known, or set to another one, the node behaves like any other node.
+ * @author Antonis Zikas
+ */
+class LazySimplyLinkedListNode<node_t> extends SimplyLinkedListNode<node_t>
+{
+    /**
+     * The mapped file that the nodes of a loaded list are decoded from
+     */
+    static final class Source<source_t>
+    {
+        private final ByteBuffer buffer;
+        private final ElementSerializer<source_t> serializer;
+        private final SimplyLinkedListNode<source_t> tailNode;
+        private final int size;
+
+        /**
+         * Constructor of the source of a loaded list
+         * @param buffer the mapped records of the file
+         * @param serializer the serializer that decodes the records
+         * @param tailNode the last node of the list, decoded up front so the list can append right away
+         * @param size how many elements the file has
+         */
+        Source(ByteBuffer buffer, ElementSerializer<source_t> serializer, SimplyLinkedListNode<source_t> tailNode, int size) {
+            this.buffer = buffer;
+            this.serializer = serializer;
+            this.tailNode = tailNode;
+            this.size = size;
+        }
+    }
+
+    private volatile Source<node_t> source; // Null once the next node is resolved, which publishes it to other readers
+    private final int index;
+    private final int nextOffset;
+
+    /**
+     * Constructor of the lazy simply linked list node
+     * @param data the data of the node
+     * @param source the mapped file the next nodes are decoded from
+     * @param index the index of the node in the saved list
+     * @param nextOffset the offset of the record of the next node
+     */
+    LazySimplyLinkedListNode(node_t data, Source<node_t> source, int index, int nextOffset) {
+        super(data, null);
+        this.source = source;
+        this.index = index;
+        this.nextOffset = nextOffset;
+    }
+
+    /**
+     * Returns the next node of the current one, decoding it from the file the first time. Readers on several threads
+     * decode it once, each through its own view of the file
+     * @return the next node in the sequence
+     */
+    @Override
+    public SimplyLinkedListNode<node_t> getNextNode()
+    {
+        // Checking if the next node is already resolved
+        if (this.source == null) {
+            return super.getNextNode();
+        }
+
+        synchronized (this)
+        {
+            // Another reader may have resolved it while this one was waiting
+            Source<node_t> source = this.source;
+            if (source == null) {
+                return super.getNextNode();
+            }
+
+            SimplyLinkedListNode<node_t> nextNode;
+
+            // The node before the tail links to the tail that was decoded up front
+            if (this.index + 2 == source.size) {
+                nextNode = source.tailNode;
+            } else {
+                ByteBuffer buffer = source.buffer.duplicate().position(this.nextOffset);
+                node_t nextData = source.serializer.deserialize(buffer);
+
+                nextNode = new LazySimplyLinkedListNode<>(nextData, source, this.index + 1, buffer.position());
+            }
+
+            // Link the next node before clearing the source, so a reader that sees no source also sees the link
+            super.setNextNode(nextNode);
+            this.source = null;
+
+            return nextNode;
+        }
+    }
+
+    /**
+     * Sets the next node of the current one, which stops any decoding from the file
+     * @param nextNode the next node in the sequence
+     */
+    @Override
+    public synchronized void setNextNode(SimplyLinkedListNode<node_t> nextNode) {
+        super.setNextNode(nextNode);
+        this.source = null;
+    }
+}
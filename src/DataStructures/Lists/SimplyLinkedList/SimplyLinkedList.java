@@ -2,33 +2,33 @@
 
 package DataStructures.Lists.SimplyLinkedList;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
-
-/**
- * Public Interface for the simply linked list's methods
- * @author Antonis Zikas
- */
-interface SimplyLinkedListMethods<list_t>
-{
-    /* Inserting Methods */
-    boolean insertDataAtEnd(list_t data);
-    boolean insertDataAtStart(list_t data);
-    boolean insertDataAtIndex(list_t data, int index);
-
-    /* Removing Methods */
-    list_t removeDataFromEnd();
-    list_t removeDataFromStart();
-    list_t removeDataFromIndex(int index);
-
-    /* Other Methods */
-    boolean contains(list_t data);
-    int indexOf(list_t data);
-    SimplyLinkedList<list_t> getReveresedVersion();
-
-    /* Printing Methods */
-    void print(String seperator);
-    void print();
-}
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import DataStructures.Utilities.TextOutput;
 
 /**
  * A class that represents a simply linked list data structure
@@ -38,20 +38,188 @@ interface SimplyLinkedListMethods<list_t>
 public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>, Iterable<list_t>
 {
     // TODO: Implement replace methods.
-    // TODO: Implement other methods like getSize(), etc.
+
+    // Enumeration to define how the list looks up its data
+    public enum LookupMode { LINEAR, HASHED }
 
     private static final String DEFAULT_SEPERATOR = " -> "; // Default seperator character for the data printing
+    private static final int SAVED_LIST_MAGIC = 0x534C4C31;  // Marks the files written by saveTo ("SLL1")
+    private static final int SAVED_LIST_HEADER_BYTES = 3 * Integer.BYTES; // Magic, number of elements and offset of the last record
+    private static final int DEFAULT_PARALLEL_SORT_THRESHOLD = 1 << 16; // Default size above which sorting forks tasks
 
     // Data of the simply linked list
     protected SimplyLinkedListNode<list_t> head;
+    protected SimplyLinkedListNode<list_t> tail;
     protected int size;
 
+    // Recycling pool of removed nodes, threaded through their next nodes
+    private final int nodePoolCapacity;
+    private SimplyLinkedListNode<list_t> freeNodes;
+    private int freeNodesCount;
+    private long nodePoolHits;
+    private long nodePoolMisses;
+
+    // Occurrences of every element, only kept when the lookup mode is hashed
+    private final HashMap<list_t, Integer> dataCounts;
+
     /**
      * Constructor of the singly linked list
      */
     public SimplyLinkedList() {
+        this(LookupMode.LINEAR, 0);
+    }
+
+    /**
+     * Constructor of the singly linked list with the given lookup mode. A hashed list keeps a side index of its
+     * elements, so contains takes O(1) expected time and indexOf returns immediately for missing data. It compares
+     * elements with equals and hashCode, which must not change while an element is in the list. A linear list compares
+     * with equals as well, so both modes find the same elements.
+     * @param lookupMode the mode of the list, whether lookups scan the list or use a hash index
+     */
+    public SimplyLinkedList(LookupMode lookupMode) {
+        this(lookupMode, 0);
+    }
+
+    /**
+     * Constructor of the singly linked list that recycles removed nodes
+     * @param nodePoolCapacity the maximum number of removed nodes to keep, 0 disables recycling
+     * @see #SimplyLinkedList(LookupMode, int)
+     */
+    public SimplyLinkedList(int nodePoolCapacity) {
+        this(LookupMode.LINEAR, nodePoolCapacity);
+    }
+
+    /**
+     * Complex constructor of the singly linked list. Up to the given number of removed nodes are
+     * kept in a free list and reused by later inserts, instead of being left to the garbage collector.
+     * Nodes must not be referenced outside the list once removed, so iterators must not outlive a removal.
+     * @param lookupMode the mode of the list, whether lookups scan the list or use a hash index
+     * @param nodePoolCapacity the maximum number of removed nodes to keep, 0 disables recycling
+     */
+    public SimplyLinkedList(LookupMode lookupMode, int nodePoolCapacity)
+    {
+        if (nodePoolCapacity < 0) {
+            throw new IllegalArgumentException("Node pool capacity must not be negative, got " + nodePoolCapacity);
+        }
+
         this.head = null;
+        this.tail = null;
         this.size = 0;
+
+        this.nodePoolCapacity = nodePoolCapacity;
+        this.freeNodes = null;
+        this.freeNodesCount = 0;
+        this.nodePoolHits = 0;
+        this.nodePoolMisses = 0;
+
+        this.dataCounts = (lookupMode == LookupMode.HASHED) ? new HashMap<>() : null;
+    }
+
+    /**
+     * Returns the size of the simply linked list
+     * @return how many elements the list has
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns how many inserts reused a recycled node
+     * @return the number of node pool hits
+     */
+    public long getNodePoolHits() {
+        return this.nodePoolHits;
+    }
+
+    /**
+     * Returns how many inserts had to allocate a new node while recycling is enabled
+     * @return the number of node pool misses
+     */
+    public long getNodePoolMisses() {
+        return this.nodePoolMisses;
+    }
+
+    /**
+     * Returns a node holding the given data, taken from the recycling pool when possible
+     * @param data the data of the node
+     * @param nextNode the next node in the sequence
+     * @return the new node
+     */
+    protected final SimplyLinkedListNode<list_t> createNode(list_t data, SimplyLinkedListNode<list_t> nextNode)
+    {
+        // Every created node is about to be linked, so count its data in the hash index
+        if (this.dataCounts != null) {
+            this.dataCounts.merge(data, 1, Integer::sum);
+        }
+
+        // Checking if recycling is disabled. If so just allocate the node
+        if (this.nodePoolCapacity == 0) {
+            return new SimplyLinkedListNode<>(data, nextNode);
+        }
+
+        // Checking if the pool is empty. If so allocate the node and count the miss
+        if (this.freeNodes == null) {
+            this.nodePoolMisses++;
+            return new SimplyLinkedListNode<>(data, nextNode);
+        }
+
+        // Otherwise pop a node from the free list and reuse it
+        SimplyLinkedListNode<list_t> recycledNode = this.freeNodes;
+        this.freeNodes = recycledNode.getNextNode();
+        this.freeNodesCount--;
+        this.nodePoolHits++;
+
+        recycledNode.setData(data);
+        recycledNode.setNextNode(nextNode);
+
+        return recycledNode;
+    }
+
+    /**
+     * Returns the given removed node to the recycling pool, if there is room for it
+     * @param node the node that was removed from the list
+     */
+    private void releaseNode(SimplyLinkedListNode<list_t> node)
+    {
+        if (this.freeNodesCount < this.nodePoolCapacity) {
+            node.setData(null); // Do not keep the removed data reachable from the pool
+            node.setNextNode(this.freeNodes);
+            this.freeNodes = node;
+            this.freeNodesCount++;
+        }
+    }
+
+    /**
+     * Unlinks the given node from the list, updating the head, the tail and the size. The node may be recycled
+     * @param previousNode the node before the one to unlink, null if it is the head
+     * @param currentNode the node to unlink
+     * @return the data of the unlinked node
+     */
+    protected final list_t unlinkNode(SimplyLinkedListNode<list_t> previousNode, SimplyLinkedListNode<list_t> currentNode)
+    {
+        // Bypass the current node, either from the head or from its previous node
+        if (previousNode == null) {
+            this.head = currentNode.getNextNode();
+        } else {
+            previousNode.setNextNode(currentNode.getNextNode());
+        }
+
+        // If the last node was unlinked, its previous one becomes the new tail
+        if (currentNode == this.tail) {
+            this.tail = previousNode;
+        }
+        this.size--;
+
+        list_t removedData = currentNode.getData();
+        this.releaseNode(currentNode);
+
+        // Drop the removed data from the hash index once its last occurrence is gone
+        if (this.dataCounts != null) {
+            this.dataCounts.computeIfPresent(removedData, (data, count) -> (count == 1) ? null : count - 1);
+        }
+
+        return removedData;
     }
 
     /**
@@ -62,22 +230,17 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
     public final boolean insertDataAtEnd(list_t data)
     {
         // Creating a new simply linked list node
-        SimplyLinkedListNode<list_t> newNode = new SimplyLinkedListNode<>(data, null);
+        SimplyLinkedListNode<list_t> newNode = this.createNode(data, null);
 
         // Checking if the list is empty. If so add the new node and update the size of the list
         if (this.head == null) {
-            this.head = newNode; this.size++;
+            this.head = newNode; this.tail = newNode; this.size++;
             return true;
         }
 
-        // Initialize a current node and loop until the very end of the list
-        SimplyLinkedListNode<list_t> currentNode = this.head;
-
-        while (currentNode.getNextNode() != null) {
-            currentNode = currentNode.getNextNode();
-        }
-        // Set the last node of the list and update its size
-        currentNode.setNextNode(newNode); this.size++;
+        // Link the new node right after the tail, without walking the list
+        this.tail.setNextNode(newNode);
+        this.tail = newNode; this.size++;
 
         return true;
     }
@@ -90,11 +253,11 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
     public final boolean insertDataAtStart(list_t data)
     {
         // Creating a new simply linked list node
-        SimplyLinkedListNode<list_t> newNode = new SimplyLinkedListNode<>(data, null);
+        SimplyLinkedListNode<list_t> newNode = this.createNode(data, null);
 
         // Checking if the list is empty. If so add the new node and update the size of the list
         if (this.head == null) {
-            this.head = newNode; this.size++;
+            this.head = newNode; this.tail = newNode; this.size++;
             return true;
         }
         // Get the first node of the list and insert the new node before that
@@ -114,9 +277,6 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
     @Override
     public final boolean insertDataAtIndex(list_t data, int index)
     {
-        // Creating a new simply linked list node
-        SimplyLinkedListNode<list_t> newNode = new SimplyLinkedListNode<>(data, null);
-
         // Checking if the given index is equal to the size of the list, or zero and do the appropriates
         if (index == this.size) {
             return this.insertDataAtEnd(data);
@@ -131,6 +291,7 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
             return false;
         }
         // Otherwise insert the data to the given index inside the list
+        SimplyLinkedListNode<list_t> newNode = this.createNode(data, null);
         SimplyLinkedListNode<list_t> currentNode = this.head;
 
         for (int i = 0; i < index - 1; i++) {
@@ -141,10 +302,158 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
         SimplyLinkedListNode<list_t> nextNode = currentNode.getNextNode();
         currentNode.setNextNode(newNode);
         newNode.setNextNode(nextNode);
+        this.size++;
+
+        return true;
+    }
+
+    /**
+     * Links a chain of nodes right after the given node, updating the head, the tail and the size
+     * @param previousNode the node to link after, null to link at the beginning
+     * @param chainHead the first node of the chain
+     * @param chainTail the last node of the chain
+     * @param chainSize how many nodes the chain has
+     */
+    private void linkChain(SimplyLinkedListNode<list_t> previousNode, SimplyLinkedListNode<list_t> chainHead,
+        SimplyLinkedListNode<list_t> chainTail, int chainSize)
+    {
+        if (previousNode == null) {
+            chainTail.setNextNode(this.head);
+            this.head = chainHead;
+        } else {
+            chainTail.setNextNode(previousNode.getNextNode());
+            previousNode.setNextNode(chainHead);
+        }
+
+        // If the chain was linked at the end, its last node becomes the new tail
+        if (chainTail.getNextNode() == null) {
+            this.tail = chainTail;
+        }
+        this.size += chainSize;
+    }
+
+    /**
+     * Moves every node of the other list into this one after the given node, leaving the other list empty
+     * @param previousNode the node to link after, null to link at the beginning
+     * @param other the list whose nodes are moved
+     */
+    private void moveNodesFrom(SimplyLinkedListNode<list_t> previousNode, SimplyLinkedList<list_t> other)
+    {
+        SimplyLinkedListNode<list_t> chainHead = other.head;
+        SimplyLinkedListNode<list_t> chainTail = other.tail;
+        int chainSize = other.size;
+
+        // Empty the other list, including its hash index
+        other.head = null; other.tail = null; other.size = 0;
+        if (other.dataCounts != null) {
+            other.dataCounts.clear();
+        }
+
+        // Count the moved data in the hash index of this list, which is the only part that is not O(1)
+        if (this.dataCounts != null) {
+            for (SimplyLinkedListNode<list_t> currentNode = chainHead; currentNode != null; currentNode = currentNode.getNextNode()) {
+                this.dataCounts.merge(currentNode.getData(), 1, Integer::sum);
+            }
+        }
+
+        this.linkChain(previousNode, chainHead, chainTail, chainSize);
+    }
+
+    /**
+     * Inserts every element of the given iterable to the end of the simply linked list. The new nodes are chained
+     * in a single pass and linked after the tail at once
+     * @param data the data to be inserted
+     * @return true if the insertion was successful
+     */
+    public final boolean insertAll(Iterable<? extends list_t> data)
+    {
+        SimplyLinkedListNode<list_t> chainHead = null, chainTail = null;
+        int chainSize = 0;
+
+        // Build a detached chain, so inserting a list into itself only copies its current elements
+        for (list_t currentData : data)
+        {
+            SimplyLinkedListNode<list_t> newNode = this.createNode(currentData, null);
+
+            if (chainHead == null) {
+                chainHead = newNode;
+            } else {
+                chainTail.setNextNode(newNode);
+            }
+            chainTail = newNode; chainSize++;
+        }
+
+        // Link the chain after the tail, if there was any data
+        if (chainHead != null) {
+            this.linkChain(this.tail, chainHead, chainTail, chainSize);
+        }
 
         return true;
     }
 
+    /**
+     * Inserts every element of the given array to the end of the simply linked list
+     * @param data the data to be inserted
+     * @return true if the insertion was successful
+     */
+    public final boolean insertAll(list_t[] data) {
+        return this.insertAll(Arrays.asList(data));
+    }
+
+    /**
+     * Moves every element of the other list to the given index of this list, relinking the nodes instead of
+     * copying them. The other list is left empty
+     * @param other the list whose elements are moved
+     * @param index the index in witch the elements are going to be inserted
+     * @return true if the splice was successful, false otherwise
+     */
+    public final boolean splice(SimplyLinkedList<list_t> other, int index)
+    {
+        // Checking if the other list is this list, since a list can not be spliced into itself
+        if (other == this) {
+            System.err.println("Can not splice a list into itself.");
+            return false;
+        }
+
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return false;
+        }
+
+        // Checking if the other list is empty. If so there is nothing to move
+        if (other.head == null) {
+            return true;
+        }
+
+        // Head over to the node before the given index, the tail when splicing at the end
+        SimplyLinkedListNode<list_t> previousNode = null;
+
+        if (index == this.size) {
+            previousNode = this.tail;
+        }
+        else if (index > 0) {
+            previousNode = this.head;
+
+            for (int i = 0; i < index - 1; i++) {
+                previousNode = previousNode.getNextNode();
+            }
+        }
+
+        this.moveNodesFrom(previousNode, other);
+        return true;
+    }
+
+    /**
+     * Moves every element of the other list to the end of this list. Both lists track their tails, so the nodes
+     * are relinked in O(1) unless this list keeps a hash index. The other list is left empty
+     * @param other the list whose elements are moved
+     * @return true if the concatenation was successful, false otherwise
+     */
+    public final boolean concat(SimplyLinkedList<list_t> other) {
+        return this.splice(other, this.size);
+    }
+
     /**
      * Removes and returns the data at the end of the simply linked list
      */
@@ -158,26 +467,18 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
 
         // Checking if the list has only one node. If so then just empty the list
         if (this.size == 1) {
-            list_t removedData = this.head.getData();
-            this.head = null; this.size--;
-
-            return removedData;
+            return this.unlinkNode(null, this.head);
         }
 
-        // Otherwise head over to the last node and delete its data and return it
-        SimplyLinkedListNode<list_t> currentNode = this.head;
+        // Otherwise head over to the node before the tail, since it becomes the new tail
         SimplyLinkedListNode<list_t> previousNode = this.head;
 
-        while (currentNode.getNextNode() != null) {
-            previousNode = currentNode;
-            currentNode = currentNode.getNextNode();
+        while (previousNode.getNextNode() != this.tail) {
+            previousNode = previousNode.getNextNode();
         }
 
-        // Keep the removed data and delete the last node
-        list_t removedData = currentNode.getData();
-        previousNode.setNextNode(null); this.size--;
-
-        return removedData;
+        // Delete the last node and return its data
+        return this.unlinkNode(previousNode, this.tail);
     }
 
     /**
@@ -192,20 +493,8 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
             return null;
         }
 
-        // Checking if the list has only one node. If so then just empty the list
-        if (this.size == 1) {
-            list_t removedData = this.head.getData();
-            this.head = null; this.size--;
-
-            return removedData;
-        }
-
-        // Otherwise store the second node in the sequence and remove the first node
-        SimplyLinkedListNode<list_t> secondNode = this.head.getNextNode();
-        list_t removedData = this.head.getData();
-        this.head = secondNode; this.size--;
-
-        return removedData;
+        // Otherwise remove the first node, the second one in the sequence becomes the new head
+        return this.unlinkNode(null, this.head);
     }
 
     /**
@@ -243,11 +532,7 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
             currentNode = currentNode.getNextNode();
         }
 
-        list_t removedData = currentNode.getData();
-        previousNode.setNextNode(currentNode.getNextNode());
-        this.size--;
-
-        return removedData;
+        return this.unlinkNode(previousNode, currentNode);
     }
 
     /**
@@ -257,49 +542,178 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
     @Override
     public String toString()
     {
-        // Create a result string variable
-        StringBuilder response = new StringBuilder("[");
-        SimplyLinkedListNode<list_t> currentNode = this.head;
+        // Stream the list into a string
+        return TextOutput.toString(response -> this.writeTo(response, SimplyLinkedList.DEFAULT_SEPERATOR));
+    }
+
+    /**
+     * Writes the sequence of data of the simply linked list to the given output, one element at a time, so the
+     * whole list is never held in a single string
+     * @param out the output to append the list to
+     * @param seperator a character seperator for the data printing
+     * @throws IOException if the output fails to append
+     */
+    public void writeTo(Appendable out, String seperator) throws IOException
+    {
+        out.append("[");
 
-        // Loop through every node in the list and store its data to the result string
-        while (currentNode != null)
+        // Loop through every node in the list and append its data to the output
+        for (SimplyLinkedListNode<list_t> currentNode = this.head; currentNode != null; currentNode = currentNode.getNextNode())
         {
-            response.append(currentNode.getData().toString());
-            if (currentNode.getNextNode() != null) {
-                response.append(SimplyLinkedList.DEFAULT_SEPERATOR);
+            out.append(String.valueOf(currentNode.getData()));
+            if (currentNode.getNextNode() != null) { // Appending a seperator character if necessary
+                out.append(seperator);
             }
-            currentNode = currentNode.getNextNode();
         }
-        response.append("]");
-
-        return response.toString();
+        out.append("]");
     }
 
     /**
-     * Advanced printing of the simply linked list's sequence of data
+     * Writes the sequence of data of the simply linked list to the given writer through a buffer. The writer is
+     * flushed but not closed
+     * @param out the writer to write the list to
      * @param seperator a character seperator for the data printing
+     * @throws IOException if the writer fails to write
      */
-    @Override
-    public final void print(String seperator)
+    public final void writeTo(Writer out, String seperator) throws IOException
+    {
+        TextOutput.writeBuffered(out, bufferedOut -> this.writeTo(bufferedOut, seperator));
+    }
+
+    /**
+     * Writes the sequence of data of the simply linked list to the given output with the default seperator
+     * @param out the output to append the list to
+     * @throws IOException if the output fails to append
+     */
+    public final void writeTo(Appendable out) throws IOException {
+        this.writeTo(out, SimplyLinkedList.DEFAULT_SEPERATOR);
+    }
+
+    /**
+     * Writes the sequence of data of the simply linked list to the given writer with the default seperator
+     * @param out the writer to write the list to
+     * @throws IOException if the writer fails to write
+     */
+    public final void writeTo(Writer out) throws IOException {
+        this.writeTo(out, SimplyLinkedList.DEFAULT_SEPERATOR);
+    }
+
+    /**
+     * Saves the simply linked list to a compact binary file, written through a memory mapping in one pass. The
+     * file holds a header with the number of elements and the offset of the last record, followed by the records
+     * @param file the file to write, replaced if it exists
+     * @param serializer the serializer that writes every element
+     * @throws IOException if the file can not be written
+     * @throws IllegalStateException if the serializer writes a different number of bytes than it reports
+     */
+    public final void saveTo(Path file, ElementSerializer<? super list_t> serializer) throws IOException
     {
-        System.out.print("[");
+        // Measure the records first, so the whole file can be mapped at once
+        long fileBytes = SimplyLinkedList.SAVED_LIST_HEADER_BYTES;
 
-        // Checking if the list is empty
-        if (this.head == null) { System.out.println("]"); return; }
+        for (SimplyLinkedListNode<list_t> currentNode = this.head; currentNode != null; currentNode = currentNode.getNextNode()) {
+            fileBytes += serializer.getSerializedSize(currentNode.getData());
+        }
 
-        SimplyLinkedListNode<list_t> currentNode = this.head;
+        // A single mapping can not be larger than the biggest int
+        if (fileBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A saved list can not be larger than 2 GiB, the list needs " + fileBytes + " bytes");
+        }
 
-        // Loop through every node in the list and print its content
-        while (currentNode != null) 
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                                    StandardOpenOption.READ, StandardOpenOption.WRITE))
         {
-            System.out.print(currentNode.getData());
-            if (currentNode.getNextNode() == null) { // Printing a seperator character if necessary
-                System.out.print(seperator); 
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileBytes);
+            buffer.putInt(0).putInt(this.size).putInt(0); // The magic is written last, so a failed save is never loaded
+
+            // Write every record, remembering where the last one starts
+            int lastRecordOffset = SimplyLinkedList.SAVED_LIST_HEADER_BYTES;
+
+            for (SimplyLinkedListNode<list_t> currentNode = this.head; currentNode != null; currentNode = currentNode.getNextNode())
+            {
+                int reportedSize = serializer.getSerializedSize(currentNode.getData());
+                lastRecordOffset = buffer.position();
+
+                try {
+                    serializer.serialize(currentNode.getData(), buffer);
+                } catch (BufferOverflowException e) {
+                    throw new IllegalStateException("The serializer wrote more than the " + reportedSize + " bytes it reported for " + currentNode.getData(), e);
+                }
+
+                // Checking if the record has the reported size. If not the offsets of the file would drift
+                if (buffer.position() - lastRecordOffset != reportedSize) {
+                    throw new IllegalStateException("The serializer wrote " + (buffer.position() - lastRecordOffset) + " bytes for " + currentNode.getData()
+                        + " but reported " + reportedSize);
+                }
             }
 
-            currentNode = currentNode.getNextNode();
+            buffer.putInt(2 * Integer.BYTES, lastRecordOffset);
+            buffer.putInt(0, SimplyLinkedList.SAVED_LIST_MAGIC);
+            buffer.force();
         }
-        System.out.println("]");
+    }
+
+    /**
+     * Loads a simply linked list saved with saveTo. The file is mapped in one call, and only the first and the last
+     * elements are decoded right away: every other node is decoded when iteration first reaches it. Several threads
+     * may read the loaded list at once, like any other list. The file must not change while the list is still being read
+     * @param file the file to read
+     * @param serializer the serializer that reads every element
+     * @return the loaded list
+     * @throws IOException if the file can not be read or is not a saved list
+     */
+    public static <list_t> SimplyLinkedList<list_t> loadFrom(Path file, ElementSerializer<list_t> serializer) throws IOException
+    {
+        MappedByteBuffer buffer;
+
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.capacity() < SimplyLinkedList.SAVED_LIST_HEADER_BYTES || buffer.getInt(0) != SimplyLinkedList.SAVED_LIST_MAGIC) {
+            throw new IOException("Not a saved simply linked list: " + file);
+        }
+
+        int savedSize = buffer.getInt(Integer.BYTES);
+        int lastRecordOffset = buffer.getInt(2 * Integer.BYTES);
+        SimplyLinkedList<list_t> resultList = new SimplyLinkedList<>();
+
+        // Checking if the saved list is empty. If so there is nothing to decode
+        if (savedSize == 0) {
+            return resultList;
+        }
+
+        // Decode the tail up front, so appending to the loaded list stays O(1)
+        resultList.tail = new SimplyLinkedListNode<>(serializer.deserialize(buffer.position(lastRecordOffset)), null);
+
+        if (savedSize == 1) {
+            resultList.head = resultList.tail;
+        } else {
+            LazySimplyLinkedListNode.Source<list_t> source = new LazySimplyLinkedListNode.Source<>(buffer, serializer, resultList.tail, savedSize);
+            list_t headData = serializer.deserialize(buffer.position(SimplyLinkedList.SAVED_LIST_HEADER_BYTES));
+
+            resultList.head = new LazySimplyLinkedListNode<>(headData, source, 0, buffer.position());
+        }
+        resultList.size = savedSize;
+
+        return resultList;
+    }
+
+    /**
+     * Advanced printing of the simply linked list's sequence of data
+     * @param seperator a character seperator for the data printing
+     */
+    @Override
+    public final void print(String seperator)
+    {
+        // Stream the list through a buffer instead of printing every element on its own
+        try {
+            this.writeTo(new OutputStreamWriter(System.out), seperator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.println();
     }
 
     /**
@@ -311,18 +725,23 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
     }
 
     /**
-     * Searches for the give data in the list
+     * Searches for the give data in the list, comparing with equals in both lookup modes
      * @return true is data found, false if data not found
      */
     @Override
     public boolean contains(list_t data)
     {
+        // Checking if the list keeps a hash index. If so answer from it
+        if (this.dataCounts != null) {
+            return this.dataCounts.containsKey(data);
+        }
+
         // Initialize a current node
         SimplyLinkedListNode<list_t> currentNode = this.head;
 
-        // Search for the given data in the list and if found return true
+        // Search for the given data in the list and if found return true. Equals keeps the answer the same as the hash index
         while (currentNode != null) {
-            if (currentNode.getData() == data) {
+            if (Objects.equals(currentNode.getData(), data)) {
                 return true;
             }
             currentNode = currentNode.getNextNode();
@@ -337,13 +756,18 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
     @Override
     public int indexOf(list_t data)
     {
+        // Checking if the hash index knows the data is missing, so the scan can be skipped
+        if (this.dataCounts != null && !this.dataCounts.containsKey(data)) {
+            return -1;
+        }
+
         // Initialize a current node and a counter variable
         SimplyLinkedListNode<list_t> currentNode = this.head;
         int indexCounter = 0;
 
         // Search for the given data in the list and if found return its index
         while (currentNode != null) {
-            if (currentNode.getData().equals(data)) {
+            if (Objects.equals(currentNode.getData(), data)) {
                 return indexCounter;
             }
             currentNode = currentNode.getNextNode();
@@ -379,6 +803,32 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
         };
     }
 
+    /**
+     * Returns a spliterator over the list, which knows the size of the list and splits it by growing batches for
+     * parallel streams
+     * @return a sized and ordered spliterator object
+     */
+    @Override
+    public Spliterator<list_t> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential stream over the data of the list
+     * @return a stream object
+     */
+    public Stream<list_t> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the data of the list
+     * @return a parallel stream object
+     */
+    public Stream<list_t> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
     /**
      * Returns the same list but reversed
      * @return the reversed version of this list
@@ -399,17 +849,401 @@ public class SimplyLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
         return resultList;
     }
 
+    /**
+     * Supporting class to sort a chain of nodes as a fork-join task
+     */
+    private static final class SortTask<task_t> extends RecursiveTask<SimplyLinkedListNode<task_t>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final SimplyLinkedListNode<task_t> chainHead;
+        private final int chainSize;
+        private final Comparator<? super task_t> comparator;
+        private final int parallelThreshold;
+
+        SortTask(SimplyLinkedListNode<task_t> chainHead, int chainSize, Comparator<? super task_t> comparator, int parallelThreshold) {
+            this.chainHead = chainHead;
+            this.chainSize = chainSize;
+            this.comparator = comparator;
+            this.parallelThreshold = parallelThreshold;
+        }
+
+        @Override
+        protected SimplyLinkedListNode<task_t> compute()
+        {
+            // Small chains are sorted right away by this thread
+            if (this.chainSize <= this.parallelThreshold) {
+                return SimplyLinkedList.mergeSort(this.chainHead, this.chainSize, this.comparator);
+            }
+
+            // Otherwise cut the chain in half, sort the first half in another task and the second one here
+            int leftSize = this.chainSize / 2;
+            SimplyLinkedListNode<task_t> rightHead = SimplyLinkedList.cutChain(this.chainHead, leftSize);
+
+            SortTask<task_t> leftTask = new SortTask<>(this.chainHead, leftSize, this.comparator, this.parallelThreshold);
+            leftTask.fork();
+            SimplyLinkedListNode<task_t> sortedRight = new SortTask<>(rightHead, this.chainSize - leftSize, this.comparator, this.parallelThreshold).compute();
+
+            return SimplyLinkedList.mergeChains(leftTask.join(), sortedRight, this.comparator);
+        }
+    }
+
+    /**
+     * Cuts a chain of nodes after the given number of nodes
+     * @param chainHead the first node of the chain
+     * @param leftSize how many nodes stay in the first part, at least 1
+     * @return the first node of the second part
+     */
+    private static <node_t> SimplyLinkedListNode<node_t> cutChain(SimplyLinkedListNode<node_t> chainHead, int leftSize)
+    {
+        SimplyLinkedListNode<node_t> lastLeftNode = chainHead;
+
+        for (int i = 0; i < leftSize - 1; i++) {
+            lastLeftNode = lastLeftNode.getNextNode();
+        }
+
+        SimplyLinkedListNode<node_t> rightHead = lastLeftNode.getNextNode();
+        lastLeftNode.setNextNode(null);
+
+        return rightHead;
+    }
+
+    /**
+     * Merges two sorted chains of nodes into one by relinking them. Equal data keeps the order of the first chain
+     * @param left the first node of the first chain
+     * @param right the first node of the second chain
+     * @param comparator the comparator that orders the data
+     * @return the first node of the merged chain
+     */
+    private static <node_t> SimplyLinkedListNode<node_t> mergeChains(SimplyLinkedListNode<node_t> left, SimplyLinkedListNode<node_t> right,
+        Comparator<? super node_t> comparator)
+    {
+        SimplyLinkedListNode<node_t> mergedHead = null, mergedTail = null;
+
+        // Keep linking the smaller of the two first nodes, until one chain runs out
+        while (left != null && right != null)
+        {
+            SimplyLinkedListNode<node_t> smallerNode;
+
+            if (comparator.compare(left.getData(), right.getData()) <= 0) {
+                smallerNode = left; left = left.getNextNode();
+            } else {
+                smallerNode = right; right = right.getNextNode();
+            }
+
+            if (mergedHead == null) {
+                mergedHead = smallerNode;
+            } else {
+                mergedTail.setNextNode(smallerNode);
+            }
+            mergedTail = smallerNode;
+        }
+
+        // Link whatever is left of the other chain
+        SimplyLinkedListNode<node_t> remainingNodes = (left != null) ? left : right;
+
+        if (mergedHead == null) {
+            return remainingNodes;
+        }
+        mergedTail.setNextNode(remainingNodes);
+
+        return mergedHead;
+    }
+
+    /**
+     * Sorts a chain of nodes with a top-down merge sort that only relinks the nodes
+     * @param chainHead the first node of the chain
+     * @param chainSize how many nodes the chain has
+     * @param comparator the comparator that orders the data
+     * @return the first node of the sorted chain
+     */
+    private static <node_t> SimplyLinkedListNode<node_t> mergeSort(SimplyLinkedListNode<node_t> chainHead, int chainSize,
+        Comparator<? super node_t> comparator)
+    {
+        if (chainSize <= 1) {
+            return chainHead;
+        }
+
+        int leftSize = chainSize / 2;
+        SimplyLinkedListNode<node_t> rightHead = SimplyLinkedList.cutChain(chainHead, leftSize);
+
+        return SimplyLinkedList.mergeChains(
+            SimplyLinkedList.mergeSort(chainHead, leftSize, comparator),
+            SimplyLinkedList.mergeSort(rightHead, chainSize - leftSize, comparator),
+            comparator
+        );
+    }
+
+    /**
+     * Sorts the simply linked list in place with a stable merge sort, forking tasks for lists above the default threshold
+     * @param comparator the comparator that orders the data
+     */
+    public final void sort(Comparator<? super list_t> comparator) {
+        this.sort(comparator, SimplyLinkedList.DEFAULT_PARALLEL_SORT_THRESHOLD);
+    }
+
+    /**
+     * Sorts the simply linked list in place with a stable merge sort that relinks the existing nodes, so no node is
+     * allocated. Sublists longer than the given threshold are split in halves that are sorted as fork-join tasks
+     * @param comparator the comparator that orders the data
+     * @param parallelThreshold the size above which a sublist is split between tasks
+     */
+    public final void sort(Comparator<? super list_t> comparator, int parallelThreshold)
+    {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be positive, got " + parallelThreshold);
+        }
+
+        // Checking if the list is already sorted by definition
+        if (this.size <= 1) {
+            return;
+        }
+
+        // Sort the chain of nodes, in the common pool only when the list is big enough to split
+        if (this.size <= parallelThreshold) {
+            this.head = SimplyLinkedList.mergeSort(this.head, this.size, comparator);
+        } else {
+            this.head = ForkJoinPool.commonPool().invoke(new SortTask<>(this.head, this.size, comparator, parallelThreshold));
+        }
+
+        // Find the new tail, which is the node that ended up last
+        SimplyLinkedListNode<list_t> currentNode = this.head;
+
+        while (currentNode.getNextNode() != null) {
+            currentNode = currentNode.getNextNode();
+        }
+        this.tail = currentNode;
+    }
+
+    /**
+     * Reverses the simply linked list in place by relinking its nodes, without allocating anything
+     */
+    public final void reverse()
+    {
+        SimplyLinkedListNode<list_t> previousNode = null;
+        SimplyLinkedListNode<list_t> currentNode = this.head;
+
+        // Point every node back to its previous one
+        while (currentNode != null) {
+            SimplyLinkedListNode<list_t> nextNode = currentNode.getNextNode();
+            currentNode.setNextNode(previousNode);
+            previousNode = currentNode;
+            currentNode = nextNode;
+        }
+
+        // The old head is the new tail and the old tail is the new head
+        this.tail = this.head;
+        this.head = previousNode;
+    }
+
+    /**
+     * Returns a read-only view of the list in reverse order. Nothing is computed until the view is iterated,
+     * and every iteration only collects the data references of the list into one array, without creating nodes.
+     * The view reflects the list at the time each iteration starts
+     * @return an iterable over the data of this list from the last to the first
+     */
+    public Iterable<list_t> getReversedView()
+    {
+        return () -> new Iterator<>() {
+            private final Object[] data = this.collectData();
+            private int currentIndex = data.length - 1;
+
+            /**
+             * Collects the data of the list in order, when the iteration starts
+             * @return an array with the data of every node
+             */
+            private Object[] collectData()
+            {
+                Object[] collectedData = new Object[size];
+                int index = 0;
+
+                for (SimplyLinkedListNode<list_t> currentNode = head; currentNode != null; currentNode = currentNode.getNextNode()) {
+                    collectedData[index++] = currentNode.getData();
+                }
+                return collectedData;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex >= 0; // Determine whether there is a previous element in the list
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public list_t next() {
+                if (currentIndex < 0) {
+                    throw new NoSuchElementException();
+                }
+                return (list_t) data[currentIndex--];
+            }
+        };
+    }
+
     /**
      * Main function to test the Simply linked list class and its functionality
      * @param args some arguments for command line executions
      * @author Antonis Zikas
      */
-    public static void main(String[] args) 
+    public static void main(String[] args) throws IOException
     {
         SimplyLinkedList<Integer> list = new SimplyLinkedList<>();
 
         for (Integer data : list) {
             System.out.println(data);
         }
+
+        // Benchmark appending 10^6 elements, which only touches the tail of the list
+        final int numberOfElements = 1_000_000;
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < numberOfElements; i++) {
+            list.insertDataAtEnd(i);
+        }
+
+        long elapsedTime = System.nanoTime() - startTime;
+        System.out.println("Appended " + numberOfElements + " elements in " + (elapsedTime / 1_000_000) + " ms");
+
+        // Concatenate two long lists by relinking their nodes
+        SimplyLinkedList<Integer> otherList = new SimplyLinkedList<>();
+        otherList.insertAll(list);
+
+        startTime = System.nanoTime();
+        list.concat(otherList);
+        elapsedTime = System.nanoTime() - startTime;
+        System.out.println("Concatenated into " + list.getSize() + " elements in " + (elapsedTime / 1_000) + " us");
+
+        // Compare reversing by copying against reversing in place and iterating a reversed view
+        startTime = System.nanoTime();
+        SimplyLinkedList<Integer> reversedCopy = list.getReveresedVersion();
+        long copyTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        list.reverse();
+        long inPlaceTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        long visitedElements = 0;
+        for (Integer data : list.getReversedView()) {
+            if (data != null) { visitedElements++; }
+        }
+        long viewTime = System.nanoTime() - startTime;
+
+        System.out.println("Reversed " + reversedCopy.getSize() + " elements by copy in " + (copyTime / 1_000_000) + " ms, in place in "
+            + (inPlaceTime / 1_000_000) + " ms, and iterated " + visitedElements + " through a reversed view in " + (viewTime / 1_000_000) + " ms");
+
+        // Compare a sequential and a parallel aggregation over 10^7 elements
+        SimplyLinkedList<Integer> largeList = new SimplyLinkedList<>();
+        for (int i = 0; i < 10_000_000; i++) {
+            largeList.insertDataAtEnd(i % 128); // Cached boxes, so the list itself dominates the heap
+        }
+
+        for (int round = 0; round < 3; round++)
+        {
+            startTime = System.nanoTime();
+            long sequentialSum = largeList.stream().mapToLong(Integer::longValue).sum();
+            long sequentialTime = System.nanoTime() - startTime;
+
+            startTime = System.nanoTime();
+            long parallelSum = largeList.parallelStream().mapToLong(Integer::longValue).sum();
+            long parallelTime = System.nanoTime() - startTime;
+
+            System.out.println("Summed 10^7 elements sequentially to " + sequentialSum + " in " + (sequentialTime / 1_000_000) + " ms and in parallel to "
+                + parallelSum + " in " + (parallelTime / 1_000_000) + " ms on " + Runtime.getRuntime().availableProcessors() + " cores");
+        }
+        largeList = null;
+
+        // Compare sorting 10^6 random elements sequentially and with fork-join tasks
+        Random random = new Random(2024);
+
+        for (int parallelThreshold : new int[] { Integer.MAX_VALUE, SimplyLinkedList.DEFAULT_PARALLEL_SORT_THRESHOLD })
+        {
+            SimplyLinkedList<Integer> unsortedList = new SimplyLinkedList<>();
+            for (int i = 0; i < 1_000_000; i++) {
+                unsortedList.insertDataAtEnd(random.nextInt());
+            }
+
+            startTime = System.nanoTime();
+            unsortedList.sort(Comparator.naturalOrder(), parallelThreshold);
+            elapsedTime = System.nanoTime() - startTime;
+
+            System.out.println("Sorted 10^6 elements with parallel threshold " + parallelThreshold + " in " + (elapsedTime / 1_000_000) + " ms");
+        }
+
+        // Compare the bytes allocated by queue-like churn with and without node recycling
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Integer element = 42;
+
+        for (int nodePoolCapacity : new int[] { 0, 1024 })
+        {
+            SimplyLinkedList<Integer> churnList = new SimplyLinkedList<>(nodePoolCapacity);
+            long allocatedBefore = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+
+            for (int round = 0; round < 1_000; round++) {
+                for (int i = 0; i < 1_000; i++) { churnList.insertDataAtEnd(element); }
+                for (int i = 0; i < 1_000; i++) { churnList.removeDataFromStart(); }
+            }
+
+            long allocatedBytes = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBefore;
+            System.out.println("Node pool capacity " + nodePoolCapacity + ": " + (allocatedBytes / 1024) + " KiB allocated, "
+                + churnList.getNodePoolHits() + " hits, " + churnList.getNodePoolMisses() + " misses");
+        }
+
+        // Compare rebuilding a list by parsing text against loading it from a saved binary file
+        ElementSerializer<Integer> integerSerializer = new ElementSerializer<>() {
+            @Override
+            public int getSerializedSize(Integer data) {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void serialize(Integer data, ByteBuffer buffer) {
+                buffer.putInt(data);
+            }
+
+            @Override
+            public Integer deserialize(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+
+        SimplyLinkedList<Integer> savedList = new SimplyLinkedList<>();
+        for (int i = 0; i < numberOfElements; i++) {
+            savedList.insertDataAtEnd(i);
+        }
+
+        Path textFile = Files.createTempFile("simply-linked-list", ".txt");
+        Path binaryFile = Files.createTempFile("simply-linked-list", ".bin");
+
+        try {
+            try (Writer textWriter = Files.newBufferedWriter(textFile)) {
+                savedList.writeTo(textWriter, "\n");
+            }
+            savedList.saveTo(binaryFile, integerSerializer);
+
+            startTime = System.nanoTime();
+            SimplyLinkedList<Integer> parsedList = new SimplyLinkedList<>();
+            for (String line : Files.readAllLines(textFile)) {
+                parsedList.insertDataAtEnd(Integer.parseInt(line.replace("[", "").replace("]", "")));
+            }
+            long parseTime = System.nanoTime() - startTime;
+
+            startTime = System.nanoTime();
+            SimplyLinkedList<Integer> loadedList = SimplyLinkedList.loadFrom(binaryFile, integerSerializer);
+            long loadTime = System.nanoTime() - startTime;
+
+            startTime = System.nanoTime();
+            long loadedSum = 0;
+            for (Integer data : loadedList) { loadedSum += data; }
+            long iterateTime = System.nanoTime() - startTime;
+
+            long parsedSum = parsedList.stream().mapToLong(Integer::longValue).sum();
+            System.out.println("Parsed " + parsedList.getSize() + " elements from text in " + (parseTime / 1_000_000) + " ms, loaded "
+                + loadedList.getSize() + " from a saved file in " + (loadTime / 1_000) + " us and iterated them in " + (iterateTime / 1_000_000)
+                + " ms (sums " + parsedSum + " and " + loadedSum + ")");
+        }
+        finally {
+            Files.deleteIfExists(textFile);
+            Files.deleteIfExists(binaryFile);
+        }
     }
 }
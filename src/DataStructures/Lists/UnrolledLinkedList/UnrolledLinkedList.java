@@ -0,0 +1,528 @@
+/* Filename: UnrolledLinkedList.java */
+
+package DataStructures.Lists.UnrolledLinkedList;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedListMethods;
+
+/**
+ * A class that represents an unrolled linked list data structure. Every node stores a fixed-capacity
+ * chunk of elements, so there is one object header and one pointer chase per chunk instead of per element.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class UnrolledLinkedList<list_t> implements SimplyLinkedListMethods<list_t>
+{
+    private static final String DEFAULT_SEPERATOR = " -> "; // Default seperator character for the data printing
+    private static final int DEFAULT_NODE_CAPACITY = 64;    // Default number of elements stored in every node
+
+    // Data of the unrolled linked list
+    protected UnrolledLinkedListNode<list_t> head;
+    protected UnrolledLinkedListNode<list_t> tail;
+    protected int size;
+
+    private final int nodeCapacity;
+
+    /**
+     * Default constructor of the unrolled linked list
+     */
+    public UnrolledLinkedList() {
+        this(UnrolledLinkedList.DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructor of the unrolled linked list with a custom node capacity
+     * @param nodeCapacity how many elements every node can hold, at least 2
+     */
+    public UnrolledLinkedList(int nodeCapacity)
+    {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity must be at least 2, got " + nodeCapacity);
+        }
+
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Returns the size of the unrolled linked list
+     * @return how many elements the list has
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Inserts data to the end of the unrolled linked list
+     * @param data the data to be inserted
+     */
+    @Override
+    public final boolean insertDataAtEnd(list_t data)
+    {
+        // Checking if the list is empty or the last node is full. If so append a new node
+        if (this.tail == null || this.tail.isFull()) {
+            this.linkNodeAfter(this.tail, new UnrolledLinkedListNode<>(this.nodeCapacity, null));
+        }
+
+        this.tail.insertData(this.tail.getCount(), data);
+        this.size++;
+
+        return true;
+    }
+
+    /**
+     * Inserts data to the beginning of the unrolled linked list
+     * @param data the data to be inserted
+     */
+    @Override
+    public final boolean insertDataAtStart(list_t data)
+    {
+        // Checking if the list is empty or the first node is full. If so prepend a new node
+        if (this.head == null || this.head.isFull()) {
+            this.linkNodeAfter(null, new UnrolledLinkedListNode<>(this.nodeCapacity, null));
+        }
+
+        this.head.insertData(0, data);
+        this.size++;
+
+        return true;
+    }
+
+    /**
+     * Inserts the given data to the given index of the unrolled linked list
+     * @param data the data to be inserted
+     * @param index the index in witch the data is going to be inserted
+     */
+    @Override
+    public final boolean insertDataAtIndex(list_t data, int index)
+    {
+        // Checking if the given index is equal to the size of the list, or zero and do the appropriates
+        if (index == this.size) {
+            return this.insertDataAtEnd(data);
+        }
+        else if (index == 0) {
+            return this.insertDataAtStart(data);
+        }
+
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size - 1) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return false;
+        }
+
+        // Head over to the node that holds the given index
+        UnrolledLinkedListNode<list_t> currentNode = this.head;
+        int offset = index;
+
+        while (offset >= currentNode.getCount()) {
+            offset -= currentNode.getCount();
+            currentNode = currentNode.getNextNode();
+        }
+
+        // If the node is full split it in half, and insert the data in the half that holds the offset
+        if (currentNode.isFull()) {
+            UnrolledLinkedListNode<list_t> newNode = new UnrolledLinkedListNode<>(this.nodeCapacity, null);
+            int half = currentNode.getCount() / 2;
+
+            currentNode.moveDataTo(half, newNode);
+            this.linkNodeAfter(currentNode, newNode);
+
+            if (offset > half) {
+                currentNode = newNode;
+                offset -= half;
+            }
+        }
+
+        currentNode.insertData(offset, data);
+        this.size++;
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the data at the end of the unrolled linked list
+     */
+    @Override
+    public final list_t removeDataFromEnd()
+    {
+        // Checking if the list is empty. If so return null
+        if (this.head == null) {
+            return null;
+        }
+
+        // Remove the last element of the last node
+        list_t removedData = this.tail.removeData(this.tail.getCount() - 1);
+        this.size--;
+
+        // If the last node became empty, head over to the node before it and unlink it
+        if (this.tail.getCount() == 0)
+        {
+            UnrolledLinkedListNode<list_t> previousNode = null;
+
+            if (this.head != this.tail) {
+                previousNode = this.head;
+
+                while (previousNode.getNextNode() != this.tail) {
+                    previousNode = previousNode.getNextNode();
+                }
+            }
+            this.unlinkNode(previousNode, this.tail);
+        }
+
+        return removedData;
+    }
+
+    /**
+     * Removes and returns the data from the beginning of the unrolled linked list
+     * @return the first item in the list, null otherwise
+     */
+    @Override
+    public final list_t removeDataFromStart()
+    {
+        // Checking if the list is empty. If so return null
+        if (this.head == null) {
+            return null;
+        }
+
+        // Remove the first element of the first node and unlink the node if it became empty
+        list_t removedData = this.head.removeData(0);
+        this.size--;
+
+        if (this.head.getCount() == 0) {
+            this.unlinkNode(null, this.head);
+        }
+
+        return removedData;
+    }
+
+    /**
+     * Removes and returns the data at the given index inside the unrolled linked list
+     * @param index the index from which the data will be removed
+     */
+    @Override
+    public final list_t removeDataFromIndex(int index)
+    {
+        // Checking if the list is empty. If so return null
+        if (this.head == null) {
+            return null;
+        }
+
+        // Checking if the given index is equal to the size of the list, or zero and do the appropriates
+        if (index == this.size - 1) {
+            return this.removeDataFromEnd();
+        }
+        else if (index == 0) {
+            return this.removeDataFromStart();
+        }
+
+        // Checking if the given index is valid according to the list size
+        if (index < 0 || index > this.size - 1) {
+            System.err.println("Error accessing index " + index + ". List has " + this.size + " elements.");
+            return null;
+        }
+
+        // Head over to the node that holds the given index, keeping track of the previous one
+        UnrolledLinkedListNode<list_t> currentNode = this.head;
+        UnrolledLinkedListNode<list_t> previousNode = null;
+        int offset = index;
+
+        while (offset >= currentNode.getCount()) {
+            offset -= currentNode.getCount();
+            previousNode = currentNode;
+            currentNode = currentNode.getNextNode();
+        }
+
+        list_t removedData = currentNode.removeData(offset);
+        this.size--;
+
+        // Unlink the node if it became empty, otherwise merge it with the next one if they both fit in a node
+        if (currentNode.getCount() == 0) {
+            this.unlinkNode(previousNode, currentNode);
+        } else {
+            this.mergeWithNextNode(currentNode);
+        }
+
+        return removedData;
+    }
+
+    /**
+     * Links a new node right after the given one, updating the head and the tail
+     * @param previousNode the node to link after, null to link at the beginning
+     * @param newNode the node to link
+     */
+    private void linkNodeAfter(UnrolledLinkedListNode<list_t> previousNode, UnrolledLinkedListNode<list_t> newNode)
+    {
+        if (previousNode == null) {
+            newNode.setNextNode(this.head);
+            this.head = newNode;
+        } else {
+            newNode.setNextNode(previousNode.getNextNode());
+            previousNode.setNextNode(newNode);
+        }
+
+        // If the new node was linked at the end, it becomes the new tail
+        if (newNode.getNextNode() == null) {
+            this.tail = newNode;
+        }
+    }
+
+    /**
+     * Unlinks the given empty node from the list, updating the head and the tail
+     * @param previousNode the node before the one to unlink, null if it is the head
+     * @param currentNode the node to unlink
+     */
+    private void unlinkNode(UnrolledLinkedListNode<list_t> previousNode, UnrolledLinkedListNode<list_t> currentNode)
+    {
+        if (previousNode == null) {
+            this.head = currentNode.getNextNode();
+        } else {
+            previousNode.setNextNode(currentNode.getNextNode());
+        }
+
+        if (currentNode == this.tail) {
+            this.tail = previousNode;
+        }
+    }
+
+    /**
+     * Merges the next node into the given one when the given node is less than half full and both fit together
+     * @param currentNode the node to merge into
+     */
+    private void mergeWithNextNode(UnrolledLinkedListNode<list_t> currentNode)
+    {
+        UnrolledLinkedListNode<list_t> nextNode = currentNode.getNextNode();
+
+        if (nextNode == null || currentNode.getCount() >= this.nodeCapacity / 2) {
+            return;
+        }
+
+        if (currentNode.getCount() + nextNode.getCount() <= this.nodeCapacity) {
+            nextNode.moveDataTo(0, currentNode);
+            this.unlinkNode(currentNode, nextNode);
+        }
+    }
+
+    /**
+     * Overloading method for printing the unrolled linked list object
+     * @return the list as a string
+     */
+    @Override
+    public String toString()
+    {
+        // Create a result string variable
+        StringBuilder response = new StringBuilder("[");
+        Iterator<list_t> iterator = this.iterator();
+
+        // Loop through every element in the list and store it to the result string
+        while (iterator.hasNext())
+        {
+            response.append(iterator.next().toString());
+            if (iterator.hasNext()) {
+                response.append(UnrolledLinkedList.DEFAULT_SEPERATOR);
+            }
+        }
+        response.append("]");
+
+        return response.toString();
+    }
+
+    /**
+     * Advanced printing of the unrolled linked list's sequence of data
+     * @param seperator a character seperator for the data printing
+     */
+    @Override
+    public final void print(String seperator)
+    {
+        System.out.print("[");
+        Iterator<list_t> iterator = this.iterator();
+
+        // Loop through every element in the list and print it
+        while (iterator.hasNext())
+        {
+            System.out.print(iterator.next());
+            if (iterator.hasNext()) { // Printing a seperator character if necessary
+                System.out.print(seperator);
+            }
+        }
+        System.out.println("]");
+    }
+
+    /**
+     * Default printing of the unrolled linked list's sequence of data
+     */
+    @Override
+    public final void print() {
+        this.print(UnrolledLinkedList.DEFAULT_SEPERATOR);
+    }
+
+    /**
+     * Searches for the give data in the list, comparing with equals
+     * @return true is data found, false if data not found
+     */
+    @Override
+    public boolean contains(list_t data)
+    {
+        // Search every chunk for the given data and if found return true
+        for (UnrolledLinkedListNode<list_t> currentNode = this.head; currentNode != null; currentNode = currentNode.getNextNode()) {
+            for (int i = 0; i < currentNode.getCount(); i++) {
+                if (Objects.equals(currentNode.getData(i), data)) {
+                    return true;
+                }
+            }
+        }
+        return false; // Otherwise, no data found
+    }
+
+    /**
+     * Returns the index of the given data in the list, if exist
+     * @return the index of the data in the list, -1 if not exist
+     */
+    @Override
+    public int indexOf(list_t data)
+    {
+        int indexCounter = 0;
+
+        // Search every chunk for the given data and if found return its index
+        for (UnrolledLinkedListNode<list_t> currentNode = this.head; currentNode != null; currentNode = currentNode.getNextNode()) {
+            for (int i = 0; i < currentNode.getCount(); i++, indexCounter++) {
+                if (Objects.equals(currentNode.getData(i), data)) {
+                    return indexCounter;
+                }
+            }
+        }
+        return -1; // Otherwise return -1 indicating that the data was not found in the list
+    }
+
+    /**
+     * Iterable method to iterate the list using 'foreach' loop
+     * @return an iterator object
+     */
+    @Override
+    public Iterator<list_t> iterator()
+    {
+        // Construct a new iterator object that walks every chunk in order
+        return new Iterator<>() {
+            private UnrolledLinkedListNode<list_t> currentNode = head;
+            private int offset = 0;
+            private int count = (head == null) ? 0 : head.getCount(); // Cached count of the current chunk
+
+            @Override
+            public boolean hasNext() {
+                return offset < count; // Empty nodes are never kept in the list
+            }
+
+            @Override
+            public list_t next() {
+                // Return the current element, moving to the next chunk when this one is exhausted
+                list_t dataToReturn = currentNode.getData(offset++);
+
+                if (offset == count) {
+                    currentNode = currentNode.getNextNode();
+                    offset = 0;
+                    count = (currentNode == null) ? 0 : currentNode.getCount();
+                }
+
+                return dataToReturn;
+            }
+        };
+    }
+
+    /**
+     * Returns the same list but reversed
+     * @return the reversed version of this list
+     */
+    @Override
+    public UnrolledLinkedList<list_t> getReveresedVersion()
+    {
+        // Initialize a new unrolled linked list with the same node capacity
+        UnrolledLinkedList<list_t> resultList = new UnrolledLinkedList<>(this.nodeCapacity);
+
+        // Loop through every element in the list and add it in the beginning of the reversed one
+        for (list_t data : this) {
+            resultList.insertDataAtStart(data);
+        }
+
+        return resultList;
+    }
+
+    /**
+     * Iterates the given list and counts its elements, used by the benchmark in the main function
+     * @param list the list to iterate
+     * @return how many elements were visited
+     */
+    private static long countElements(Iterable<Integer> list)
+    {
+        long count = 0;
+        for (Integer data : list) {
+            if (data != null) { count++; }
+        }
+        return count;
+    }
+
+    /**
+     * Main function to compare the unrolled linked list against the simply linked list
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args)
+    {
+        final int numberOfElements = 1_000_000;
+        final int iterations = 20;
+
+        // Both lists share the same boxed values, so the heap difference comes from the list structure alone
+        Integer[] values = new Integer[numberOfElements];
+        for (int i = 0; i < numberOfElements; i++) {
+            values[i] = i;
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+
+        System.gc();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        SimplyLinkedList<Integer> simplyLinkedList = new SimplyLinkedList<>();
+        for (Integer value : values) {
+            simplyLinkedList.insertDataAtEnd(value);
+        }
+        System.gc();
+        long simplyLinkedListBytes = runtime.totalMemory() - runtime.freeMemory() - usedBefore;
+
+        usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        UnrolledLinkedList<Integer> unrolledLinkedList = new UnrolledLinkedList<>();
+        for (Integer value : values) {
+            unrolledLinkedList.insertDataAtEnd(value);
+        }
+        System.gc();
+        long unrolledLinkedListBytes = runtime.totalMemory() - runtime.freeMemory() - usedBefore;
+
+        System.out.println("Bytes per element (simply linked list):   " + (double) simplyLinkedListBytes / numberOfElements);
+        System.out.println("Bytes per element (unrolled linked list): " + (double) unrolledLinkedListBytes / numberOfElements);
+
+        // Time full iterations over both lists, after a few warm up passes
+        long visitedElements = 0;
+        for (int i = 0; i < 10; i++) {
+            visitedElements += UnrolledLinkedList.countElements(simplyLinkedList);
+            visitedElements += UnrolledLinkedList.countElements(unrolledLinkedList);
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            visitedElements += UnrolledLinkedList.countElements(simplyLinkedList);
+        }
+        long simplyLinkedListTime = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            visitedElements += UnrolledLinkedList.countElements(unrolledLinkedList);
+        }
+        long unrolledLinkedListTime = System.nanoTime() - startTime;
+
+        System.out.println("Iteration time (simply linked list):   " + (simplyLinkedListTime / iterations / 1000) + " us");
+        System.out.println("Iteration time (unrolled linked list): " + (unrolledLinkedListTime / iterations / 1000) + " us");
+        System.out.println("Visited elements: " + visitedElements);
+    }
+}
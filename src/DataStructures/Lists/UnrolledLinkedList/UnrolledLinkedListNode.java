@@ -0,0 +1,127 @@
+package DataStructures.Lists.UnrolledLinkedList;
+
+import java.util.Arrays;
+
+/**
+ * A class that represents an unrolled linked list node, which stores a chunk of elements in an array.
+ * @author Antonis Zikas
+ */
+public class UnrolledLinkedListNode <node_t>
+{
+    private final Object[] elements;
+    private int count;
+    private UnrolledLinkedListNode<node_t> nextNode;
+
+    /**
+     * Constructor of the unrolled linked list node
+     * @param capacity how many elements the node can hold
+     * @param nextNode the next node in the sequence
+     */
+    public UnrolledLinkedListNode(int capacity, UnrolledLinkedListNode<node_t> nextNode) {
+        this.elements = new Object[capacity];
+        this.count = 0;
+        this.nextNode = nextNode;
+    }
+
+    /**
+     * Returns the element at the given offset inside the node
+     * @param offset the position of the element inside the node
+     * @return the element at the given offset
+     */
+    @SuppressWarnings("unchecked")
+    public node_t getData(int offset) {
+        return (node_t) this.elements[offset];
+    }
+
+    /**
+     * Sets the element at the given offset inside the node
+     * @param offset the position of the element inside the node
+     * @param data the new element
+     */
+    public void setData(int offset, node_t data) {
+        this.elements[offset] = data;
+    }
+
+    /**
+     * Inserts an element at the given offset, shifting the following ones to the right
+     * @param offset the position to insert the element at
+     * @param data the element to insert
+     */
+    public void insertData(int offset, node_t data)
+    {
+        System.arraycopy(this.elements, offset, this.elements, offset + 1, this.count - offset);
+        this.elements[offset] = data;
+        this.count++;
+    }
+
+    /**
+     * Removes the element at the given offset, shifting the following ones to the left
+     * @param offset the position of the element to remove
+     * @return the removed element
+     */
+    public node_t removeData(int offset)
+    {
+        node_t removedData = this.getData(offset);
+
+        System.arraycopy(this.elements, offset + 1, this.elements, offset, this.count - offset - 1);
+        this.elements[--this.count] = null; // Clear the freed slot so the element can be collected
+
+        return removedData;
+    }
+
+    /**
+     * Moves the elements starting at the given offset to the end of another node
+     * @param offset the first position to move
+     * @param otherNode the node that receives the elements
+     */
+    public void moveDataTo(int offset, UnrolledLinkedListNode<node_t> otherNode)
+    {
+        int movedCount = this.count - offset;
+
+        System.arraycopy(this.elements, offset, otherNode.elements, otherNode.count, movedCount);
+        Arrays.fill(this.elements, offset, this.count, null);
+
+        otherNode.count += movedCount;
+        this.count = offset;
+    }
+
+    /**
+     * Returns how many elements the node currently holds
+     * @return the number of elements in the node
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns how many elements the node can hold
+     * @return the capacity of the node
+     */
+    public int getCapacity() {
+        return this.elements.length;
+    }
+
+    /**
+     * Determines whether the node has no room for another element
+     * @return true if the node is full, false otherwise
+     */
+    public boolean isFull() {
+        return this.count == this.elements.length;
+    }
+
+    /**
+     * Sets the next node of the current one
+     * @param nextNode the next node in the sequence
+     */
+    public void setNextNode(UnrolledLinkedListNode<node_t> nextNode) {
+        this.nextNode = nextNode;
+    }
+
+    /**
+     * Returns the next node of the current one
+     * @return the next node in the sequence
+     */
+    public UnrolledLinkedListNode<node_t> getNextNode() {
+        return this.nextNode;
+    }
+}
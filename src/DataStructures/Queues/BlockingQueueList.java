@@ -0,0 +1,440 @@
+/* Filename: BlockingQueueList.java */
+
+package DataStructures.Queues;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import DataStructures.Graphs.AdjacencyListGraph.Graph;
+
+/**
+ * A class that represents a bounded queue shared by threads, where producers wait while it is full and consumers
+ * wait while it is empty. Every operation holds a single lock, so a whole batch can be drained under one
+ * acquisition. The queue also keeps track of its highest depth and of how long producers and consumers waited.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class BlockingQueueList<queue_t> implements QueueListMethods<queue_t>
+{
+    private final RingBufferQueue<queue_t> items;
+    private final int capacity;
+
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+
+    // Metrics of the queue, guarded by the lock
+    private int maxSize;
+    private long putWaitCount;
+    private long putWaitNanos;
+    private long takeWaitCount;
+    private long takeWaitNanos;
+
+    /**
+     * Constructor of the blocking queuelist
+     * @param capacity how many items the queue holds before producers have to wait
+     */
+    public BlockingQueueList(int capacity)
+    {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, got " + capacity);
+        }
+
+        this.items = new RingBufferQueue<>(Math.min(capacity, 1 << 10)); // Grows up to the capacity only if it is used
+        this.capacity = capacity;
+
+        this.lock = new ReentrantLock();
+        this.notEmpty = this.lock.newCondition();
+        this.notFull = this.lock.newCondition();
+    }
+
+    /**
+     * Returns the size of the blocking queuelist
+     * @return how many elements the queue has
+     */
+    @Override
+    public int getSize()
+    {
+        this.lock.lock();
+        try {
+            return this.items.getSize();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the capacity of the blocking queuelist
+     * @return how many items the queue holds before producers have to wait
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Inserts the data to the end of the queue while the lock is held, and wakes up a waiting consumer
+     * @param data the data to insert
+     */
+    private void insert(queue_t data)
+    {
+        this.items.enqueue(data);
+        this.maxSize = Math.max(this.maxSize, this.items.getSize());
+        this.notEmpty.signal();
+    }
+
+    /**
+     * Removes the data at the beginning of the queue while the lock is held, and wakes up a waiting producer
+     * @return the first item of the queue
+     */
+    private queue_t remove()
+    {
+        queue_t dataToReturn = this.items.dequeue();
+        this.notFull.signal();
+
+        return dataToReturn;
+    }
+
+    /**
+     * Inserts new data to the end of the queue, without waiting for room
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the queue is full or the data is null
+     */
+    @Override
+    public boolean enqueue(queue_t data)
+    {
+        // Null marks an empty queue in dequeue, so it can not be stored
+        if (data == null) {
+            return false;
+        }
+
+        this.lock.lock();
+        try {
+            if (this.items.getSize() == this.capacity) {
+                return false;
+            }
+            this.insert(data);
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data at the beginning of the queue, without waiting for an item
+     * @return the first item of the queue, null if it is empty
+     */
+    @Override
+    public queue_t dequeue()
+    {
+        this.lock.lock();
+        try {
+            return (this.items.getSize() == 0) ? null : this.remove();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts new data to the end of the queue, waiting for room as long as needed
+     * @param data the data to insert
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void put(queue_t data) throws InterruptedException {
+        this.put(data, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Inserts new data to the end of the queue, waiting for room up to the given time
+     * @param data the data to insert
+     * @param timeout how long to wait at most
+     * @param unit the unit of the timeout
+     * @return true if the insertion was successfull, false if the time ran out
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean put(queue_t data, long timeout, TimeUnit unit) throws InterruptedException
+    {
+        if (data == null) {
+            throw new IllegalArgumentException("Null can not be stored in the queue");
+        }
+
+        long remainingNanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+
+        try {
+            // Wait while the queue is full, counting the time spent waiting
+            if (this.items.getSize() == this.capacity)
+            {
+                long startTime = System.nanoTime();
+                this.putWaitCount++;
+
+                try {
+                    while (this.items.getSize() == this.capacity) {
+                        if (remainingNanos <= 0) {
+                            return false;
+                        }
+                        remainingNanos = this.notFull.awaitNanos(remainingNanos);
+                    }
+                } finally {
+                    this.putWaitNanos += System.nanoTime() - startTime;
+                }
+            }
+
+            this.insert(data);
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data at the beginning of the queue, waiting for an item as long as needed
+     * @return the first item of the queue
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public queue_t take() throws InterruptedException {
+        return this.take(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Removes and returns the data at the beginning of the queue, waiting for an item up to the given time
+     * @param timeout how long to wait at most
+     * @param unit the unit of the timeout
+     * @return the first item of the queue, null if the time ran out
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public queue_t take(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        long remainingNanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+
+        try {
+            // Wait while the queue is empty, counting the time spent waiting
+            if (this.items.getSize() == 0)
+            {
+                long startTime = System.nanoTime();
+                this.takeWaitCount++;
+
+                try {
+                    while (this.items.getSize() == 0) {
+                        if (remainingNanos <= 0) {
+                            return null;
+                        }
+                        remainingNanos = this.notEmpty.awaitNanos(remainingNanos);
+                    }
+                } finally {
+                    this.takeWaitNanos += System.nanoTime() - startTime;
+                }
+            }
+
+            return this.remove();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to the given number of items and adds them to the given collection, under a single acquisition of
+     * the lock. It does not wait for items. An item is only removed once the collection has accepted it, so if the
+     * collection throws, that item and every later one stay in the queue
+     * @param collection the collection to add the removed items to
+     * @param maxItems the most items to remove
+     * @return how many items were removed
+     */
+    public int drainTo(Collection<? super queue_t> collection, int maxItems)
+    {
+        if (maxItems < 0) {
+            throw new IllegalArgumentException("Max items can not be negative, got " + maxItems);
+        }
+
+        int drainedItems = 0;
+
+        this.lock.lock();
+        try {
+            int batchSize = Math.min(maxItems, this.items.getSize());
+
+            // Add every item before removing it, so an item the collection rejects is not lost
+            while (drainedItems < batchSize) {
+                collection.add(this.items.peek());
+                this.items.dequeue();
+                drainedItems++;
+            }
+
+            return drainedItems;
+        } finally {
+            // Every freed slot may let a producer continue, even if the collection threw
+            if (drainedItems > 0) {
+                this.notFull.signalAll();
+            }
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the highest number of items the queue has held at once
+     * @return the highest depth of the queue
+     */
+    public int getMaxSize()
+    {
+        this.lock.lock();
+        try {
+            return this.maxSize;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns how many times a producer found the queue full and had to wait
+     * @return the number of waiting puts
+     */
+    public long getPutWaitCount()
+    {
+        this.lock.lock();
+        try {
+            return this.putWaitCount;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the total time producers spent waiting for room
+     * @return the waiting time in nanoseconds
+     */
+    public long getPutWaitNanos()
+    {
+        this.lock.lock();
+        try {
+            return this.putWaitNanos;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns how many times a consumer found the queue empty and had to wait
+     * @return the number of waiting takes
+     */
+    public long getTakeWaitCount()
+    {
+        this.lock.lock();
+        try {
+            return this.takeWaitCount;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the total time consumers spent waiting for items
+     * @return the waiting time in nanoseconds
+     */
+    public long getTakeWaitNanos()
+    {
+        this.lock.lock();
+        try {
+            return this.takeWaitNanos;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Overloading method for printing the blocking queuelist object
+     * @return the queue as a string
+     */
+    @Override
+    public String toString()
+    {
+        this.lock.lock();
+        try {
+            return this.items.toString();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Main function to feed the edges of a graph from producer threads to a single builder thread through the
+     * blocking queuelist
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        final int numberOfNodes = 1_000;
+        final int numberOfProducers = 4;
+        final int edgesPerProducer = 2_000;
+        final int[] poisonEdge = new int[0]; // Tells the builder that a producer is done
+
+        // The graph looks its nodes up by reference, so the builder connects the same boxes that were added
+        Graph<Integer> graph = new Graph<>();
+        Integer[] nodeData = new Integer[numberOfNodes];
+
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodeData[i] = i;
+            graph.addNode(nodeData[i]);
+        }
+
+        BlockingQueueList<int[]> edges = new BlockingQueueList<>(64);
+        Thread[] producers = new Thread[numberOfProducers];
+
+        for (int i = 0; i < numberOfProducers; i++)
+        {
+            final int seed = i;
+            producers[i] = new Thread(() -> {
+                Random random = new Random(seed);
+                try {
+                    for (int e = 0; e < edgesPerProducer; e++) {
+                        edges.put(new int[] { random.nextInt(numberOfNodes), random.nextInt(numberOfNodes) });
+                    }
+                    edges.put(poisonEdge);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        // The builder takes one edge to wait for work, then drains whatever else is ready in the same go
+        Thread builder = new Thread(() -> {
+            ArrayList<int[]> batch = new ArrayList<>();
+            int finishedProducers = 0, connectedEdges = 0, batches = 0;
+
+            try {
+                while (finishedProducers < numberOfProducers)
+                {
+                    batch.add(edges.take());
+                    edges.drainTo(batch, 255);
+                    batches++;
+
+                    for (int[] edge : batch) {
+                        if (edge == poisonEdge) { finishedProducers++; continue; }
+                        if (graph.connectNodes(nodeData[edge[0]], nodeData[edge[1]])) { connectedEdges++; }
+                    }
+                    batch.clear();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            System.out.println("Connected " + connectedEdges + " new edges in " + batches + " batches");
+        });
+
+        long startTime = System.nanoTime();
+        builder.start();
+        for (Thread producer : producers) { producer.start(); }
+        for (Thread producer : producers) { producer.join(); }
+        builder.join();
+        long elapsedTime = System.nanoTime() - startTime;
+
+        System.out.println("Finished in " + (elapsedTime / 1_000_000) + " ms, highest depth " + edges.getMaxSize() + " of " + edges.getCapacity());
+        System.out.println("Producers waited " + edges.getPutWaitCount() + " times for " + (edges.getPutWaitNanos() / 1_000_000) + " ms, builder waited "
+            + edges.getTakeWaitCount() + " times for " + (edges.getTakeWaitNanos() / 1_000_000) + " ms");
+
+        // A timed take gives up once the queue stays empty
+        System.out.println("Timed take on an empty queue returned " + edges.take(10, TimeUnit.MILLISECONDS));
+    }
+}
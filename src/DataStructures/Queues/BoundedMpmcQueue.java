@@ -0,0 +1,258 @@
+/* Filename: BoundedMpmcQueue.java */
+
+package DataStructures.Queues;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A class that represents a bounded queue that many threads can enqueue to and dequeue from at the same time,
+ * without locks. Every slot of the circular array carries a sequence number which tells whether the slot is
+ * ready to be written or read for a given position, so producers and consumers only compete on the position
+ * counters. The sequence numbers and the counters are spread over separate cache lines against false sharing.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class BoundedMpmcQueue<queue_t> implements QueueListMethods<queue_t>
+{
+    private static final int PADDING = 8;  // Longs per cache line, so padded values never share a line
+    private static final int ENQUEUE_POSITION = PADDING;
+    private static final int DEQUEUE_POSITION = 3 * PADDING;
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences; // One padded sequence number per slot
+    private final AtomicLongArray positions; // The enqueue and dequeue positions, each on its own cache line
+    private final int mask;
+
+    /**
+     * Constructor of the bounded mpmc queue
+     * @param capacity how many items the queue holds, rounded up to a power of two
+     */
+    public BoundedMpmcQueue(int capacity)
+    {
+        if (capacity < 2 || capacity > (1 << 26)) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^26, got " + capacity);
+        }
+
+        // Round the capacity up to a power of two, so positions map to slots with a mask
+        int roundedCapacity = Integer.highestOneBit(capacity);
+        if (roundedCapacity < capacity) {
+            roundedCapacity <<= 1;
+        }
+
+        this.elements = new Object[roundedCapacity];
+        this.sequences = new AtomicLongArray(roundedCapacity * BoundedMpmcQueue.PADDING);
+        this.positions = new AtomicLongArray(4 * BoundedMpmcQueue.PADDING);
+        this.mask = roundedCapacity - 1;
+
+        // Every slot starts ready to be written for the first lap
+        for (int i = 0; i < roundedCapacity; i++) {
+            this.sequences.set(i * BoundedMpmcQueue.PADDING, i);
+        }
+    }
+
+    /**
+     * Returns the capacity of the bounded mpmc queue
+     * @return how many items the queue holds
+     */
+    public int getCapacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Returns the size of the bounded mpmc queue. Other threads may change it at any time, so it is only an estimate
+     * @return how many elements the queue had a moment ago
+     */
+    @Override
+    public int getSize()
+    {
+        long size = this.positions.get(BoundedMpmcQueue.ENQUEUE_POSITION) - this.positions.get(BoundedMpmcQueue.DEQUEUE_POSITION);
+        return (int) Math.max(0, Math.min(size, this.mask + 1));
+    }
+
+    /**
+     * Inserts new data to the end of the queue, without waiting for room
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the queue is full or the data is null
+     */
+    public boolean offer(queue_t data)
+    {
+        // Null marks an empty queue in poll, so it can not be stored
+        if (data == null) {
+            return false;
+        }
+
+        long position = this.positions.get(BoundedMpmcQueue.ENQUEUE_POSITION);
+        int slot;
+
+        while (true)
+        {
+            slot = (int) (position & this.mask);
+            long difference = this.sequences.getAcquire(slot * BoundedMpmcQueue.PADDING) - position;
+
+            // The slot is ready for this position, so try to claim the position
+            if (difference == 0) {
+                if (this.positions.compareAndSet(BoundedMpmcQueue.ENQUEUE_POSITION, position, position + 1)) {
+                    break;
+                }
+                position = this.positions.get(BoundedMpmcQueue.ENQUEUE_POSITION);
+            }
+            // The slot still holds an item from the previous lap, so the queue is full
+            else if (difference < 0) {
+                return false;
+            }
+            // Another producer claimed the position first
+            else {
+                position = this.positions.get(BoundedMpmcQueue.ENQUEUE_POSITION);
+            }
+        }
+
+        // Publish the item: consumers read the slot only after they see the new sequence number
+        this.elements[slot] = data;
+        this.sequences.setRelease(slot * BoundedMpmcQueue.PADDING, position + 1);
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the data at the beginning of the queue, without waiting for an item
+     * @return the first item of the queue, null if it is empty
+     */
+    @SuppressWarnings("unchecked")
+    public queue_t poll()
+    {
+        long position = this.positions.get(BoundedMpmcQueue.DEQUEUE_POSITION);
+        int slot;
+
+        while (true)
+        {
+            slot = (int) (position & this.mask);
+            long difference = this.sequences.getAcquire(slot * BoundedMpmcQueue.PADDING) - (position + 1);
+
+            // The slot holds the item of this position, so try to claim the position
+            if (difference == 0) {
+                if (this.positions.compareAndSet(BoundedMpmcQueue.DEQUEUE_POSITION, position, position + 1)) {
+                    break;
+                }
+                position = this.positions.get(BoundedMpmcQueue.DEQUEUE_POSITION);
+            }
+            // The slot has not been written for this position yet, so the queue is empty
+            else if (difference < 0) {
+                return null;
+            }
+            // Another consumer claimed the position first
+            else {
+                position = this.positions.get(BoundedMpmcQueue.DEQUEUE_POSITION);
+            }
+        }
+
+        queue_t dataToReturn = (queue_t) this.elements[slot];
+        this.elements[slot] = null; // Do not keep the removed data reachable from the array
+
+        // Hand the slot over to the producer of the next lap
+        this.sequences.setRelease(slot * BoundedMpmcQueue.PADDING, position + this.mask + 1);
+
+        return dataToReturn;
+    }
+
+    /**
+     * Inserts new data to the end of the queue, the same as offer
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the queue is full or the data is null
+     */
+    @Override
+    public boolean enqueue(queue_t data) {
+        return this.offer(data);
+    }
+
+    /**
+     * Removes and returns the data at the beginning of the queue, the same as poll
+     * @return the first item of the queue, null if it is empty
+     */
+    @Override
+    public queue_t dequeue() {
+        return this.poll();
+    }
+
+    /**
+     * Main function to compare the throughput of the bounded mpmc queue against an array blocking queue
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        final int capacity = 1 << 10;
+        final int numberOfItems = 1_000_000;
+
+        for (int round = 0; round < 2; round++)
+        {
+            for (int numberOfThreads = 2; numberOfThreads <= 16; numberOfThreads <<= 1)
+            {
+                BoundedMpmcQueue<Integer> mpmcQueue = new BoundedMpmcQueue<>(capacity);
+                ArrayBlockingQueue<Integer> blockingQueue = new ArrayBlockingQueue<>(capacity);
+
+                long mpmcTime = BoundedMpmcQueue.runTransfer(numberOfThreads, numberOfItems, mpmcQueue::offer, mpmcQueue::poll);
+                long blockingTime = BoundedMpmcQueue.runTransfer(numberOfThreads, numberOfItems, blockingQueue::offer, blockingQueue::poll);
+
+                System.out.println(numberOfThreads + " threads: bounded mpmc queue " + (numberOfItems * 1_000_000_000L / mpmcTime)
+                    + " items/s, array blocking queue " + (numberOfItems * 1_000_000_000L / blockingTime) + " items/s");
+            }
+        }
+    }
+
+    /**
+     * Moves the given number of items from half of the threads to the other half and checks that every item arrived
+     * @param numberOfThreads how many threads to start, half producers and half consumers
+     * @param numberOfItems how many items to move in total
+     * @param offer the non-blocking insertion of the queue
+     * @param poll the non-blocking removal of the queue
+     * @return the elapsed time in nanoseconds
+     */
+    private static long runTransfer(int numberOfThreads, int numberOfItems, Predicate<Integer> offer,
+                                    Supplier<Integer> poll) throws InterruptedException
+    {
+        int numberOfProducers = numberOfThreads / 2;
+        int itemsPerProducer = numberOfItems / numberOfProducers;
+
+        AtomicLong remainingItems = new AtomicLong((long) itemsPerProducer * numberOfProducers);
+        AtomicLong receivedSum = new AtomicLong();
+        Thread[] threads = new Thread[2 * numberOfProducers];
+
+        for (int i = 0; i < numberOfProducers; i++)
+        {
+            threads[i] = new Thread(() -> {
+                for (int item = 1; item <= itemsPerProducer; item++) {
+                    while (!offer.test(item)) { Thread.yield(); } // The queue is full
+                }
+            });
+
+            threads[numberOfProducers + i] = new Thread(() -> {
+                long sum = 0;
+                while (remainingItems.get() > 0)
+                {
+                    Integer item = poll.get();
+                    if (item == null) { Thread.yield(); continue; } // The queue is empty
+
+                    sum += item;
+                    remainingItems.decrementAndGet();
+                }
+                receivedSum.addAndGet(sum);
+            });
+        }
+
+        long startTime = System.nanoTime();
+        for (Thread thread : threads) { thread.start(); }
+        for (Thread thread : threads) { thread.join(); }
+        long elapsedTime = System.nanoTime() - startTime;
+
+        // Every producer sends 1 to itemsPerProducer, so the received items must add up to the same total
+        long expectedSum = (long) numberOfProducers * itemsPerProducer * (itemsPerProducer + 1) / 2;
+        if (receivedSum.get() != expectedSum) {
+            throw new IllegalStateException("Received items add up to " + receivedSum.get() + " instead of " + expectedSum);
+        }
+
+        return elapsedTime;
+    }
+}
@@ -0,0 +1,301 @@
+/* Filename: DaryHeapPriorityQueue.java */
+
+package DataStructures.Queues;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * A class that represents a priority queue stored as a d-ary heap in an array. Every node has up to d children,
+ * so a larger arity makes the heap shallower: inserting gets cheaper and removing compares more children per
+ * level. The queue dequeues the smallest item according to its comparator first.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class DaryHeapPriorityQueue<queue_t> implements PriorityQueueMethods<queue_t>
+{
+    private static final int DEFAULT_ARITY = 4;     // Default number of children of every node
+    private static final int DEFAULT_CAPACITY = 16; // Default number of slots of a new queue
+
+    private final int arity;
+    private final Comparator<? super queue_t> comparator;
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Constructor of the d-ary heap priority queue with the default arity
+     * @param comparator the comparator that orders the items, smallest first
+     */
+    public DaryHeapPriorityQueue(Comparator<? super queue_t> comparator) {
+        this(DaryHeapPriorityQueue.DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * Constructor of the d-ary heap priority queue
+     * @param arity the number of children of every node
+     * @param comparator the comparator that orders the items, smallest first
+     */
+    public DaryHeapPriorityQueue(int arity, Comparator<? super queue_t> comparator)
+    {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2, got " + arity);
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("The comparator can not be null");
+        }
+
+        this.arity = arity;
+        this.comparator = comparator;
+        this.elements = new Object[DaryHeapPriorityQueue.DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Constructor of the d-ary heap priority queue that holds the given items, built bottom up in O(n)
+     * @param arity the number of children of every node
+     * @param comparator the comparator that orders the items, smallest first
+     * @param data the items of the new queue, none of them null
+     */
+    public DaryHeapPriorityQueue(int arity, Comparator<? super queue_t> comparator, Collection<? extends queue_t> data)
+    {
+        this(arity, comparator);
+
+        if (data == null) {
+            throw new IllegalArgumentException("The items of the new queue can not be null");
+        }
+
+        Object[] items = data.toArray();
+
+        // Null marks an empty queue in poll, so refuse it here instead of failing later while sifting
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] == null) {
+                throw new IllegalArgumentException("Item " + i + " of the new queue is null");
+            }
+        }
+
+        this.elements = (items.length == 0) ? new Object[1] : items;
+        this.size = items.length;
+
+        // Sift down every node that has children, from the last one to the root
+        for (int i = (this.size - 2) / this.arity; i >= 0 && this.size > 1; i--) {
+            this.siftDown(i);
+        }
+    }
+
+    /**
+     * Returns the size of the d-ary heap priority queue
+     * @return how many elements the queue has
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the arity of the d-ary heap priority queue
+     * @return the number of children of every node
+     */
+    public int getArity() {
+        return this.arity;
+    }
+
+    /**
+     * Compares the items at the given slots
+     * @param firstSlot the slot of the first item
+     * @param secondSlot the slot of the second item
+     * @return a negative number, zero, or a positive number as the first item is smaller, equal or larger
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(int firstSlot, int secondSlot) {
+        return this.comparator.compare((queue_t) this.elements[firstSlot], (queue_t) this.elements[secondSlot]);
+    }
+
+    /**
+     * Moves the item at the given slot up until its parent is not larger
+     * @param slot the slot of the item
+     */
+    @SuppressWarnings("unchecked")
+    private void siftUp(int slot)
+    {
+        Object item = this.elements[slot];
+
+        // Move the larger parents down instead of swapping at every level
+        while (slot > 0)
+        {
+            int parentSlot = (slot - 1) / this.arity;
+            if (this.comparator.compare((queue_t) item, (queue_t) this.elements[parentSlot]) >= 0) {
+                break;
+            }
+
+            this.elements[slot] = this.elements[parentSlot];
+            slot = parentSlot;
+        }
+        this.elements[slot] = item;
+    }
+
+    /**
+     * Moves the item at the given slot down until none of its children is smaller
+     * @param slot the slot of the item
+     */
+    @SuppressWarnings("unchecked")
+    private void siftDown(int slot)
+    {
+        Object item = this.elements[slot];
+
+        while (true)
+        {
+            int firstChild = this.arity * slot + 1;
+            if (firstChild >= this.size) {
+                break;
+            }
+
+            // Find the smallest of the children
+            int smallestChild = firstChild;
+            int lastChild = Math.min(firstChild + this.arity, this.size);
+
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (this.compare(child, smallestChild) < 0) {
+                    smallestChild = child;
+                }
+            }
+
+            if (this.comparator.compare((queue_t) this.elements[smallestChild], (queue_t) item) >= 0) {
+                break;
+            }
+
+            this.elements[slot] = this.elements[smallestChild];
+            slot = smallestChild;
+        }
+        this.elements[slot] = item;
+    }
+
+    /**
+     * Inserts new data to the queue in O(log n)
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the data is null
+     */
+    @Override
+    public boolean insert(queue_t data)
+    {
+        // Null marks an empty queue in poll, so it can not be stored
+        if (data == null) {
+            return false;
+        }
+
+        // Checking if the array is full. If so grow it by half
+        if (this.size == this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, this.elements.length + (this.elements.length >> 1) + 1);
+        }
+
+        this.elements[this.size] = data;
+        this.siftUp(this.size++);
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the smallest data of the queue in O(log n)
+     * @return the smallest item of the queue, null if it is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public queue_t poll()
+    {
+        // Checking if the queue is empty. If so return null
+        if (this.size == 0) {
+            return null;
+        }
+
+        queue_t dataToReturn = (queue_t) this.elements[0];
+
+        // Move the last item to the root and sift it down to its place
+        this.size--;
+        this.elements[0] = this.elements[this.size];
+        this.elements[this.size] = null; // Do not keep the removed data reachable from the array
+
+        if (this.size > 1) {
+            this.siftDown(0);
+        }
+
+        return dataToReturn;
+    }
+
+    /**
+     * Returns the smallest data of the queue without removing it
+     * @return the smallest item of the queue, null if it is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public queue_t peek() {
+        return (this.size == 0) ? null : (queue_t) this.elements[0];
+    }
+
+    /**
+     * Main function to benchmark the generic and the primitive d-ary heaps at arities 2, 4 and 8
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args)
+    {
+        DaryHeapPriorityQueue<Integer> queue = new DaryHeapPriorityQueue<>(3, Comparator.naturalOrder(), Arrays.asList(5, 3, 9, 1, 7));
+        queue.insert(4);
+
+        System.out.print("Polled in order:");
+        while (queue.getSize() != 0) {
+            System.out.print(" " + queue.poll());
+        }
+        System.out.println();
+
+        final int numberOfItems = 1_000_000;
+        Random random = new Random(42);
+        double[] priorities = new double[numberOfItems];
+        int[] payloads = new int[numberOfItems];
+        Double[] boxedPriorities = new Double[numberOfItems];
+
+        for (int i = 0; i < numberOfItems; i++) {
+            priorities[i] = random.nextDouble();
+            payloads[i] = i;
+            boxedPriorities[i] = priorities[i];
+        }
+
+        for (int round = 0; round < 2; round++)
+        {
+            for (int arity : new int[] { 2, 4, 8 })
+            {
+                // Generic heap: insert one by one, then poll everything
+                long startTime = System.nanoTime();
+                DaryHeapPriorityQueue<Double> genericQueue = new DaryHeapPriorityQueue<>(arity, Comparator.naturalOrder());
+                for (Double priority : boxedPriorities) { genericQueue.insert(priority); }
+                long genericInsertTime = System.nanoTime() - startTime;
+
+                startTime = System.nanoTime();
+                while (genericQueue.poll() != null);
+                long genericPollTime = System.nanoTime() - startTime;
+
+                // Generic heap built bottom up from the whole input
+                startTime = System.nanoTime();
+                genericQueue = new DaryHeapPriorityQueue<>(arity, Comparator.naturalOrder(), Arrays.asList(boxedPriorities));
+                long genericHeapifyTime = System.nanoTime() - startTime;
+
+                // Primitive heap: the same three steps
+                startTime = System.nanoTime();
+                DoubleIntPriorityQueue primitiveQueue = new DoubleIntPriorityQueue(arity);
+                for (int i = 0; i < numberOfItems; i++) { primitiveQueue.insert(priorities[i], payloads[i]); }
+                long primitiveInsertTime = System.nanoTime() - startTime;
+
+                startTime = System.nanoTime();
+                while (primitiveQueue.getSize() != 0) { primitiveQueue.poll(); }
+                long primitivePollTime = System.nanoTime() - startTime;
+
+                startTime = System.nanoTime();
+                primitiveQueue = new DoubleIntPriorityQueue(arity, priorities, payloads);
+                long primitiveHeapifyTime = System.nanoTime() - startTime;
+
+                System.out.println("Arity " + arity + ": generic insert " + (genericInsertTime / 1_000_000) + " ms, poll " + (genericPollTime / 1_000_000)
+                    + " ms, heapify " + (genericHeapifyTime / 1_000_000) + " ms | primitive insert " + (primitiveInsertTime / 1_000_000) + " ms, poll "
+                    + (primitivePollTime / 1_000_000) + " ms, heapify " + (primitiveHeapifyTime / 1_000_000) + " ms");
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/* Filename: DoubleIntPriorityQueue.java */
+
+package DataStructures.Queues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A class that represents a priority queue of int payloads ordered by double priorities, stored as a d-ary heap in
+ * two parallel arrays so nothing is boxed. The queue removes the payload with the smallest priority first.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class DoubleIntPriorityQueue
+{
+    private static final int DEFAULT_ARITY = 4;     // Default number of children of every node
+    private static final int DEFAULT_CAPACITY = 16; // Default number of slots of a new queue
+
+    private final int arity;
+    private double[] priorities;
+    private int[] payloads;
+    private int size;
+
+    /**
+     * Constructor of the double int priority queue with the default arity
+     */
+    public DoubleIntPriorityQueue() {
+        this(DoubleIntPriorityQueue.DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructor of the double int priority queue
+     * @param arity the number of children of every node
+     */
+    public DoubleIntPriorityQueue(int arity)
+    {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2, got " + arity);
+        }
+
+        this.arity = arity;
+        this.priorities = new double[DoubleIntPriorityQueue.DEFAULT_CAPACITY];
+        this.payloads = new int[DoubleIntPriorityQueue.DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Constructor of the double int priority queue that holds the given pairs, built bottom up in O(n)
+     * @param arity the number of children of every node
+     * @param priorities the priorities of the pairs
+     * @param payloads the payloads of the pairs, one for every priority
+     */
+    public DoubleIntPriorityQueue(int arity, double[] priorities, int[] payloads)
+    {
+        this(arity);
+
+        if (priorities == null || payloads == null) {
+            throw new IllegalArgumentException("The priorities and the payloads of the new queue can not be null");
+        }
+        if (priorities.length != payloads.length) {
+            throw new IllegalArgumentException("Got " + priorities.length + " priorities but " + payloads.length + " payloads");
+        }
+
+        this.priorities = Arrays.copyOf(priorities, Math.max(priorities.length, 1));
+        this.payloads = Arrays.copyOf(payloads, Math.max(payloads.length, 1));
+        this.size = priorities.length;
+
+        // Sift down every node that has children, from the last one to the root
+        for (int i = (this.size - 2) / this.arity; i >= 0 && this.size > 1; i--) {
+            this.siftDown(i, this.priorities[i], this.payloads[i]);
+        }
+    }
+
+    /**
+     * Returns the size of the double int priority queue
+     * @return how many elements the queue has
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the arity of the double int priority queue
+     * @return the number of children of every node
+     */
+    public int getArity() {
+        return this.arity;
+    }
+
+    /**
+     * Moves the given pair up from the given slot until its parent does not have a larger priority
+     * @param slot the slot to start from
+     * @param priority the priority of the pair
+     * @param payload the payload of the pair
+     */
+    private void siftUp(int slot, double priority, int payload)
+    {
+        // Move the larger parents down instead of swapping at every level
+        while (slot > 0)
+        {
+            int parentSlot = (slot - 1) / this.arity;
+            if (Double.compare(priority, this.priorities[parentSlot]) >= 0) {
+                break;
+            }
+
+            this.priorities[slot] = this.priorities[parentSlot];
+            this.payloads[slot] = this.payloads[parentSlot];
+            slot = parentSlot;
+        }
+        this.priorities[slot] = priority;
+        this.payloads[slot] = payload;
+    }
+
+    /**
+     * Moves the given pair down from the given slot until none of its children has a smaller priority
+     * @param slot the slot to start from
+     * @param priority the priority of the pair
+     * @param payload the payload of the pair
+     */
+    private void siftDown(int slot, double priority, int payload)
+    {
+        while (true)
+        {
+            int firstChild = this.arity * slot + 1;
+            if (firstChild >= this.size) {
+                break;
+            }
+
+            // Find the child with the smallest priority
+            int smallestChild = firstChild;
+            int lastChild = Math.min(firstChild + this.arity, this.size);
+
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (Double.compare(this.priorities[child], this.priorities[smallestChild]) < 0) {
+                    smallestChild = child;
+                }
+            }
+
+            if (Double.compare(this.priorities[smallestChild], priority) >= 0) {
+                break;
+            }
+
+            this.priorities[slot] = this.priorities[smallestChild];
+            this.payloads[slot] = this.payloads[smallestChild];
+            slot = smallestChild;
+        }
+        this.priorities[slot] = priority;
+        this.payloads[slot] = payload;
+    }
+
+    /**
+     * Inserts a new pair to the queue in O(log n)
+     * @param priority the priority of the pair
+     * @param payload the payload of the pair
+     */
+    public void insert(double priority, int payload)
+    {
+        // Checking if the arrays are full. If so grow them by half
+        if (this.size == this.priorities.length) {
+            int newCapacity = this.priorities.length + (this.priorities.length >> 1) + 1;
+            this.priorities = Arrays.copyOf(this.priorities, newCapacity);
+            this.payloads = Arrays.copyOf(this.payloads, newCapacity);
+        }
+
+        this.siftUp(this.size++, priority, payload);
+    }
+
+    /**
+     * Returns the smallest priority of the queue without removing it
+     * @return the priority of the first pair
+     */
+    public double peekPriority()
+    {
+        if (this.size == 0) {
+            throw new NoSuchElementException("The queue is empty");
+        }
+        return this.priorities[0];
+    }
+
+    /**
+     * Returns the payload with the smallest priority without removing it
+     * @return the payload of the first pair
+     */
+    public int peekPayload()
+    {
+        if (this.size == 0) {
+            throw new NoSuchElementException("The queue is empty");
+        }
+        return this.payloads[0];
+    }
+
+    /**
+     * Removes the pair with the smallest priority in O(log n) and returns its payload
+     * @return the payload of the first pair
+     */
+    public int poll()
+    {
+        // Checking if the queue is empty
+        if (this.size == 0) {
+            throw new NoSuchElementException("The queue is empty");
+        }
+
+        int payloadToReturn = this.payloads[0];
+
+        // Move the last pair to the root and sift it down to its place
+        this.size--;
+        if (this.size > 0) {
+            this.siftDown(0, this.priorities[this.size], this.payloads[this.size]);
+        }
+
+        return payloadToReturn;
+    }
+
+    /**
+     * Overloading method for printing the double int priority queue object
+     * @return the pairs as a string, in heap order
+     */
+    @Override
+    public String toString()
+    {
+        // Create a result string variable
+        StringBuilder response = new StringBuilder("(");
+
+        // Loop through every pair in the heap and store it to the result string
+        for (int i = 0; i < this.size; i++)
+        {
+            response.append(this.payloads[i]).append(": ").append(this.priorities[i]);
+            if (i < this.size - 1) {
+                response.append(", ");
+            }
+        }
+        response.append(")");
+
+        return response.toString();
+    }
+}
@@ -0,0 +1,297 @@
+/* Filename: IndexedMinPriorityQueue.java */
+
+package DataStructures.Queues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A class that represents a min priority queue over dense int ids, stored as a binary heap of ids. Every id knows
+ * its place in the heap, so decreasing its key or removing it takes O(log n) instead of searching the heap, and a
+ * search never has to push the same id twice.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class IndexedMinPriorityQueue implements IndexedPriorityQueueMethods
+{
+    private static final int NOT_IN_QUEUE = -1; // Heap position of the ids that are not in the queue
+
+    private final int[] heap;       // The ids, in heap order
+    private final int[] positions;  // The heap position of every id
+    private final double[] keys;    // The key of every id
+    private int size;
+
+    /**
+     * Constructor of the indexed min priority queue
+     * @param capacity the number of ids, so the valid ids are from zero up to the capacity
+     */
+    public IndexedMinPriorityQueue(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity can not be negative, got " + capacity);
+        }
+
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new double[capacity];
+        this.size = 0;
+
+        Arrays.fill(this.positions, IndexedMinPriorityQueue.NOT_IN_QUEUE);
+    }
+
+    /**
+     * Returns the size of the indexed min priority queue
+     * @return how many ids are in the queue
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the capacity of the indexed min priority queue
+     * @return the number of valid ids
+     */
+    @Override
+    public int getCapacity() {
+        return this.heap.length;
+    }
+
+    /**
+     * Returns whether the indexed min priority queue has no ids
+     * @return true if the queue is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Checks that the given id is inside the capacity of the queue
+     * @param id the id to check
+     */
+    private void checkId(int id)
+    {
+        if (id < 0 || id >= this.heap.length) {
+            throw new IllegalArgumentException("Id " + id + " is out of range. Queue has capacity " + this.heap.length + ".");
+        }
+    }
+
+    /**
+     * Returns whether the given id is in the queue
+     * @param id the id to search for
+     * @return true if the id is in the queue, false otherwise
+     */
+    @Override
+    public boolean contains(int id)
+    {
+        this.checkId(id);
+        return this.positions[id] != IndexedMinPriorityQueue.NOT_IN_QUEUE;
+    }
+
+    /**
+     * Returns the key of the given id
+     * @param id the id in the queue
+     * @return the key of the id
+     */
+    @Override
+    public double getKey(int id)
+    {
+        if (!this.contains(id)) {
+            throw new NoSuchElementException("Id " + id + " is not in the queue");
+        }
+        return this.keys[id];
+    }
+
+    /**
+     * Places the given id at the given heap position
+     * @param position the heap position
+     * @param id the id to place
+     */
+    private void place(int position, int id) {
+        this.heap[position] = id;
+        this.positions[id] = position;
+    }
+
+    /**
+     * Moves the given id up from the given heap position until its parent does not have a larger key
+     * @param position the heap position to start from
+     * @param id the id to move
+     */
+    private void siftUp(int position, int id)
+    {
+        // Move the larger parents down instead of swapping at every level
+        while (position > 0)
+        {
+            int parentPosition = (position - 1) >> 1;
+            if (Double.compare(this.keys[id], this.keys[this.heap[parentPosition]]) >= 0) {
+                break;
+            }
+
+            this.place(position, this.heap[parentPosition]);
+            position = parentPosition;
+        }
+        this.place(position, id);
+    }
+
+    /**
+     * Moves the given id down from the given heap position until none of its children has a smaller key
+     * @param position the heap position to start from
+     * @param id the id to move
+     */
+    private void siftDown(int position, int id)
+    {
+        while (true)
+        {
+            int smallestChild = 2 * position + 1;
+            if (smallestChild >= this.size) {
+                break;
+            }
+
+            // Pick the child with the smaller key
+            if (smallestChild + 1 < this.size && Double.compare(this.keys[this.heap[smallestChild + 1]], this.keys[this.heap[smallestChild]]) < 0) {
+                smallestChild++;
+            }
+
+            if (Double.compare(this.keys[this.heap[smallestChild]], this.keys[id]) >= 0) {
+                break;
+            }
+
+            this.place(position, this.heap[smallestChild]);
+            position = smallestChild;
+        }
+        this.place(position, id);
+    }
+
+    /**
+     * Inserts the given id with the given key in O(log n)
+     * @param id the id to insert, not in the queue yet
+     * @param key the key of the id
+     */
+    @Override
+    public void insert(int id, double key)
+    {
+        if (this.contains(id)) {
+            throw new IllegalArgumentException("Id " + id + " is already in the queue");
+        }
+
+        this.keys[id] = key;
+        this.siftUp(this.size++, id);
+    }
+
+    /**
+     * Lowers the key of the given id in O(log n)
+     * @param id the id in the queue
+     * @param key the new key, not larger than the current one
+     */
+    @Override
+    public void decreaseKey(int id, double key)
+    {
+        if (Double.compare(key, this.getKey(id)) > 0) {
+            throw new IllegalArgumentException("Key " + key + " is larger than the current key " + this.keys[id] + " of id " + id);
+        }
+
+        this.keys[id] = key;
+        this.siftUp(this.positions[id], id);
+    }
+
+    /**
+     * Removes the given id from the queue in O(log n)
+     * @param id the id to remove
+     * @return true if the id was in the queue, false otherwise
+     */
+    @Override
+    public boolean remove(int id)
+    {
+        if (!this.contains(id)) {
+            return false;
+        }
+
+        int position = this.positions[id];
+        int lastId = this.heap[--this.size];
+        this.positions[id] = IndexedMinPriorityQueue.NOT_IN_QUEUE;
+
+        // Move the last id to the freed position and restore the heap in whichever direction it is broken
+        if (position < this.size) {
+            this.siftUp(position, lastId);
+            if (this.positions[lastId] == position) {
+                this.siftDown(position, lastId);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the id with the smallest key in O(log n)
+     * @return the removed id
+     */
+    @Override
+    public int pollMin()
+    {
+        int minimumId = this.peekMin();
+        this.remove(minimumId);
+
+        return minimumId;
+    }
+
+    /**
+     * Returns the id with the smallest key without removing it
+     * @return the first id of the queue
+     */
+    @Override
+    public int peekMin()
+    {
+        if (this.size == 0) {
+            throw new NoSuchElementException("The queue is empty");
+        }
+        return this.heap[0];
+    }
+
+    /**
+     * Overloading method for printing the indexed min priority queue object
+     * @return the ids and their keys as a string, in heap order
+     */
+    @Override
+    public String toString()
+    {
+        // Create a result string variable
+        StringBuilder response = new StringBuilder("(");
+
+        // Loop through every id in the heap and store it to the result string
+        for (int i = 0; i < this.size; i++)
+        {
+            response.append(this.heap[i]).append(": ").append(this.keys[this.heap[i]]);
+            if (i < this.size - 1) {
+                response.append(", ");
+            }
+        }
+        response.append(")");
+
+        return response.toString();
+    }
+
+    /**
+     * Main function to test the indexed min priority queue
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args)
+    {
+        IndexedMinPriorityQueue queue = new IndexedMinPriorityQueue(6);
+
+        for (int id = 0; id < 6; id++) {
+            queue.insert(id, 10 - id);
+        }
+        System.out.println(queue);
+
+        queue.decreaseKey(0, 1.5);
+        queue.remove(5);
+        System.out.println(queue + ", contains 5: " + queue.contains(5));
+
+        System.out.print("Polled in order:");
+        while (!queue.isEmpty()) {
+            System.out.print(" " + queue.pollMin());
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,288 @@
+/* Filename: IndexedPairingHeap.java */
+
+package DataStructures.Queues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A class that represents a min priority queue over dense int ids, stored as a pairing heap. Every tree keeps its
+ * children as a linked list of ids, so inserting and decreasing a key only link two trees in O(1), while removing
+ * the smallest id pairs up the children of the root in two passes, in O(log n) amortized.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class IndexedPairingHeap implements IndexedPriorityQueueMethods
+{
+    private static final int NONE = -1; // Marks a missing child, sibling or parent
+
+    private final int[] child;      // The leftmost child of every id
+    private final int[] sibling;    // The next sibling of every id
+    private final int[] previous;   // The previous sibling of every id, or its parent if it is the leftmost child
+    private final boolean[] present;
+    private final double[] keys;
+    private final int[] pairs;      // Scratch space for the trees of the first pairing pass
+    private int root;
+    private int size;
+
+    /**
+     * Constructor of the indexed pairing heap
+     * @param capacity the number of ids, so the valid ids are from zero up to the capacity
+     */
+    public IndexedPairingHeap(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity can not be negative, got " + capacity);
+        }
+
+        this.child = new int[capacity];
+        this.sibling = new int[capacity];
+        this.previous = new int[capacity];
+        this.present = new boolean[capacity];
+        this.keys = new double[capacity];
+        this.pairs = new int[(capacity + 1) / 2];
+        this.root = IndexedPairingHeap.NONE;
+        this.size = 0;
+
+        Arrays.fill(this.child, IndexedPairingHeap.NONE);
+        Arrays.fill(this.sibling, IndexedPairingHeap.NONE);
+        Arrays.fill(this.previous, IndexedPairingHeap.NONE);
+    }
+
+    /**
+     * Returns the size of the indexed pairing heap
+     * @return how many ids are in the heap
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the capacity of the indexed pairing heap
+     * @return the number of valid ids
+     */
+    @Override
+    public int getCapacity() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns whether the indexed pairing heap has no ids
+     * @return true if the heap is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns whether the given id is in the heap
+     * @param id the id to search for
+     * @return true if the id is in the heap, false otherwise
+     */
+    @Override
+    public boolean contains(int id)
+    {
+        if (id < 0 || id >= this.keys.length) {
+            throw new IllegalArgumentException("Id " + id + " is out of range. Heap has capacity " + this.keys.length + ".");
+        }
+        return this.present[id];
+    }
+
+    /**
+     * Returns the key of the given id
+     * @param id the id in the heap
+     * @return the key of the id
+     */
+    @Override
+    public double getKey(int id)
+    {
+        if (!this.contains(id)) {
+            throw new NoSuchElementException("Id " + id + " is not in the heap");
+        }
+        return this.keys[id];
+    }
+
+    /**
+     * Links two detached trees, making the one with the larger root the leftmost child of the other
+     * @param first the root of the first tree, or none
+     * @param second the root of the second tree, or none
+     * @return the root of the linked tree
+     */
+    private int link(int first, int second)
+    {
+        if (first == IndexedPairingHeap.NONE) {
+            return second;
+        }
+        if (second == IndexedPairingHeap.NONE) {
+            return first;
+        }
+
+        // Keep the smaller root on top
+        if (Double.compare(this.keys[second], this.keys[first]) < 0) {
+            int temp = first;
+            first = second;
+            second = temp;
+        }
+
+        this.sibling[second] = this.child[first];
+        if (this.child[first] != IndexedPairingHeap.NONE) {
+            this.previous[this.child[first]] = second;
+        }
+        this.previous[second] = first;
+        this.child[first] = second;
+
+        return first;
+    }
+
+    /**
+     * Detaches the tree of the given id from its parent and siblings
+     * @param id the id to detach, not the root
+     */
+    private void cut(int id)
+    {
+        int previousId = this.previous[id];
+
+        if (this.child[previousId] == id) {
+            this.child[previousId] = this.sibling[id];
+        } else {
+            this.sibling[previousId] = this.sibling[id];
+        }
+
+        if (this.sibling[id] != IndexedPairingHeap.NONE) {
+            this.previous[this.sibling[id]] = previousId;
+        }
+
+        this.sibling[id] = IndexedPairingHeap.NONE;
+        this.previous[id] = IndexedPairingHeap.NONE;
+    }
+
+    /**
+     * Merges the given list of sibling trees into one tree, linking them in pairs from left to right and then the
+     * pairs from right to left
+     * @param first the leftmost tree of the list, or none
+     * @return the root of the merged tree, or none
+     */
+    private int mergePairs(int first)
+    {
+        int numberOfPairs = 0;
+        int current = first;
+
+        // First pass: link the trees two by two
+        while (current != IndexedPairingHeap.NONE)
+        {
+            int firstTree = current;
+            int secondTree = this.sibling[firstTree];
+            current = (secondTree == IndexedPairingHeap.NONE) ? IndexedPairingHeap.NONE : this.sibling[secondTree];
+
+            this.sibling[firstTree] = this.previous[firstTree] = IndexedPairingHeap.NONE;
+            if (secondTree != IndexedPairingHeap.NONE) {
+                this.sibling[secondTree] = this.previous[secondTree] = IndexedPairingHeap.NONE;
+            }
+
+            this.pairs[numberOfPairs++] = this.link(firstTree, secondTree);
+        }
+
+        // Second pass: link every pair into the result, starting from the last one
+        int result = IndexedPairingHeap.NONE;
+        while (numberOfPairs > 0) {
+            result = this.link(this.pairs[--numberOfPairs], result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Inserts the given id with the given key in O(1)
+     * @param id the id to insert, not in the heap yet
+     * @param key the key of the id
+     */
+    @Override
+    public void insert(int id, double key)
+    {
+        if (this.contains(id)) {
+            throw new IllegalArgumentException("Id " + id + " is already in the heap");
+        }
+
+        this.keys[id] = key;
+        this.present[id] = true;
+        this.root = this.link(this.root, id);
+        this.size++;
+    }
+
+    /**
+     * Lowers the key of the given id in O(1), by cutting its tree off and linking it with the root
+     * @param id the id in the heap
+     * @param key the new key, not larger than the current one
+     */
+    @Override
+    public void decreaseKey(int id, double key)
+    {
+        if (Double.compare(key, this.getKey(id)) > 0) {
+            throw new IllegalArgumentException("Key " + key + " is larger than the current key " + this.keys[id] + " of id " + id);
+        }
+
+        this.keys[id] = key;
+
+        if (id != this.root) {
+            this.cut(id);
+            this.root = this.link(this.root, id);
+        }
+    }
+
+    /**
+     * Removes the given id from the heap in O(log n) amortized
+     * @param id the id to remove
+     * @return true if the id was in the heap, false otherwise
+     */
+    @Override
+    public boolean remove(int id)
+    {
+        if (!this.contains(id)) {
+            return false;
+        }
+
+        // The children of the removed id become one tree, which takes its place
+        int subtree = this.mergePairs(this.child[id]);
+
+        if (id == this.root) {
+            this.root = subtree;
+        } else {
+            this.cut(id);
+            this.root = this.link(this.root, subtree);
+        }
+
+        this.child[id] = IndexedPairingHeap.NONE;
+        this.present[id] = false;
+        this.size--;
+
+        return true;
+    }
+
+    /**
+     * Removes the id with the smallest key in O(log n) amortized
+     * @return the removed id
+     */
+    @Override
+    public int pollMin()
+    {
+        int minimumId = this.peekMin();
+        this.remove(minimumId);
+
+        return minimumId;
+    }
+
+    /**
+     * Returns the id with the smallest key without removing it
+     * @return the root of the heap
+     */
+    @Override
+    public int peekMin()
+    {
+        if (this.size == 0) {
+            throw new NoSuchElementException("The heap is empty");
+        }
+        return this.root;
+    }
+}
@@ -0,0 +1,27 @@
+/* Filename: IndexedPriorityQueueMethods.java */
+
+package DataStructures.Queues;
+
+/**
+ * Public interface for the methods of the priority queues over dense int ids, where every id from zero up to the
+ * capacity can be in the queue at most once with a double key
+ * @author Antonis Zikas
+ */
+public interface IndexedPriorityQueueMethods
+{
+    /* Size Methods */
+    int getSize();
+    int getCapacity();
+    boolean isEmpty();
+
+    /* Basic Methods */
+    void insert(int id, double key);
+    void decreaseKey(int id, double key);
+    boolean remove(int id);
+    int pollMin();
+
+    /* Other Methods */
+    boolean contains(int id);
+    int peekMin();
+    double getKey(int id);
+}
@@ -0,0 +1,21 @@
+/* Filename: PriorityQueueMethods.java */
+
+package DataStructures.Queues;
+
+/**
+ * Public interface for the methods of the priority queues, which remove the smallest item first instead of the
+ * oldest one, so they are kept apart from the queue list methods
+ * @author Antonis Zikas
+ */
+public interface PriorityQueueMethods<queue_t>
+{
+    /* Size Methods */
+    int getSize();
+
+    /* Basic Methods */
+    boolean insert(queue_t data);
+    queue_t poll();
+
+    /* Other Methods */
+    queue_t peek();
+}
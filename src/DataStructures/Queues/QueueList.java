@@ -1,17 +1,12 @@
 package DataStructures.Queues;
 
-import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
-
-/**
- * Public interface for the queue list methods
- */
-interface QueueListMethods<queue_t>
-{
-    int getSize();
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
 
-    boolean enqueue(queue_t data);
-    queue_t dequeue();
-}
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedListMethods;
+import DataStructures.Utilities.TextOutput;
 
 /**
  * A class that represents a queue data structure that uses a simply linked list.
@@ -20,8 +15,10 @@ interface QueueListMethods<queue_t>
  */
 public class QueueList<queue_t> implements QueueListMethods<queue_t>
 {
+    private static final String DEFAULT_SEPERATOR = ", "; // Default seperator character for the data printing
+
     private int size;
-    private SimplyLinkedList<queue_t> list;
+    private SimplyLinkedListMethods<queue_t> list;
 
     /**
      * Constructor of the queuelist
@@ -31,6 +28,15 @@ public class QueueList<queue_t> implements QueueListMethods<queue_t>
         this.list = new SimplyLinkedList<>();
     }
 
+    /**
+     * Constructor of the queuelist with a custom backing list
+     * @param list the empty list that stores the elements of the queuelist
+     */
+    public QueueList(SimplyLinkedListMethods<queue_t> list) {
+        this.size = 0;
+        this.list = list;
+    }
+
     /**
      * Returns the size of the queuelist
      * @return how many elements the queuelist has
@@ -79,21 +85,60 @@ public class QueueList<queue_t> implements QueueListMethods<queue_t>
     @Override
     public String toString()
     {
-        // Create a result string variable
-        StringBuilder response = new StringBuilder("(");
+        // Stream the queuelist into a string
+        return TextOutput.toString(response -> this.writeTo(response, QueueList.DEFAULT_SEPERATOR));
+    }
 
-        // Checking if the queuelist is empty
-        if (this.size == 0) {
-            return response.append(")").toString();
-        }
+    /**
+     * Writes the data of the queuelist to the given output, one item at a time
+     * @param out the output to append the queuelist to
+     * @param seperator a character seperator for the data printing
+     * @throws IOException if the output fails to append
+     */
+    public void writeTo(Appendable out, String seperator) throws IOException
+    {
+        out.append("(");
 
-        // Loop through every itam in the queue list and store its data to the result string
-        for (queue_t data : this.list) {
-            response.append(data).append(", ");
+        // Loop through every item in the queuelist and append its data to the output
+        Iterator<queue_t> iterator = this.list.iterator();
+
+        while (iterator.hasNext())
+        {
+            out.append(String.valueOf(iterator.next()));
+            if (iterator.hasNext()) {
+                out.append(seperator);
+            }
         }
+        out.append(")");
+    }
 
-        response.replace(response.length() - 2, response.length(), ")");
-        return response.toString();
+    /**
+     * Writes the data of the queuelist to the given writer through a buffer. The writer is flushed but not closed
+     * @param out the writer to write the queuelist to
+     * @param seperator a character seperator for the data printing
+     * @throws IOException if the writer fails to write
+     */
+    public final void writeTo(Writer out, String seperator) throws IOException
+    {
+        TextOutput.writeBuffered(out, bufferedOut -> this.writeTo(bufferedOut, seperator));
+    }
+
+    /**
+     * Writes the data of the queuelist to the given output with the default seperator
+     * @param out the output to append the queuelist to
+     * @throws IOException if the output fails to append
+     */
+    public final void writeTo(Appendable out) throws IOException {
+        this.writeTo(out, QueueList.DEFAULT_SEPERATOR);
+    }
+
+    /**
+     * Writes the data of the queuelist to the given writer with the default seperator
+     * @param out the writer to write the queuelist to
+     * @throws IOException if the writer fails to write
+     */
+    public final void writeTo(Writer out) throws IOException {
+        this.writeTo(out, QueueList.DEFAULT_SEPERATOR);
     }
 
     /**
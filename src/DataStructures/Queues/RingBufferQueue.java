@@ -0,0 +1,269 @@
+/* Filename: RingBufferQueue.java */
+
+package DataStructures.Queues;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A class that represents a queue data structure stored in a circular array. Enqueue and dequeue take amortized
+ * O(1): the array doubles when it is full and, if shrinking is enabled, halves when it is only a quarter full.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class RingBufferQueue<queue_t> implements QueueListMethods<queue_t>, Iterable<queue_t>
+{
+    private static final int DEFAULT_CAPACITY = 16; // Default number of slots of a new queue
+
+    private Object[] elements;
+    private int head;  // Slot of the first item
+    private int size;
+
+    private final int minimumCapacity;
+    private final boolean shrinkEnabled;
+
+    /**
+     * Constructor of the ring buffer queue
+     */
+    public RingBufferQueue() {
+        this(RingBufferQueue.DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Constructor of the ring buffer queue with a custom initial capacity
+     * @param initialCapacity how many items the queue holds before it grows
+     */
+    public RingBufferQueue(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Complex constructor of the ring buffer queue
+     * @param initialCapacity how many items the queue holds before it grows, also the size it never shrinks below
+     * @param shrinkEnabled whether the array halves when it is only a quarter full
+     */
+    public RingBufferQueue(int initialCapacity, boolean shrinkEnabled)
+    {
+        if (initialCapacity < 1 || initialCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Initial capacity must be between 1 and 2^30, got " + initialCapacity);
+        }
+
+        // Round the capacity up to a power of two, so the slots wrap around with a mask
+        int capacity = Integer.highestOneBit(initialCapacity);
+        if (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+
+        this.elements = new Object[capacity];
+        this.head = 0;
+        this.size = 0;
+
+        this.minimumCapacity = capacity;
+        this.shrinkEnabled = shrinkEnabled;
+    }
+
+    /**
+     * Returns the size of the ring buffer queue
+     * @return how many elements the queue has
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of slots of the ring buffer queue
+     * @return how many items the queue holds before it grows
+     */
+    public int getCapacity() {
+        return this.elements.length;
+    }
+
+    /**
+     * Inserts new data to the end of the queue
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the data is null
+     */
+    @Override
+    public boolean enqueue(queue_t data)
+    {
+        // Null marks an empty queue in dequeue, so it can not be stored
+        if (data == null) {
+            return false;
+        }
+
+        // Checking if the array is full. If so double it
+        if (this.size == this.elements.length) {
+            this.resize(this.elements.length << 1);
+        }
+
+        this.elements[(this.head + this.size) & (this.elements.length - 1)] = data;
+        this.size++;
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the data at the beginning of the queue
+     * @return the first item of the queue, null otherwise
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public queue_t dequeue()
+    {
+        // Checking if the queue is empty. If so return null
+        if (this.size == 0) {
+            return null;
+        }
+
+        queue_t dataToReturn = (queue_t) this.elements[this.head];
+        this.elements[this.head] = null; // Do not keep the removed data reachable from the array
+
+        this.head = (this.head + 1) & (this.elements.length - 1);
+        this.size--;
+
+        // Halve the array when it is mostly empty, but never below the initial capacity
+        if (this.shrinkEnabled && this.size <= (this.elements.length >> 2) && this.elements.length > this.minimumCapacity) {
+            this.resize(this.elements.length >> 1);
+        }
+
+        return dataToReturn;
+    }
+
+    /**
+     * Returns the data at the beginning of the queue without removing it
+     * @return the first item of the queue, null otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public queue_t peek() {
+        return (queue_t) this.elements[this.head];
+    }
+
+    /**
+     * Moves the items to a new array of the given capacity, starting from its first slot
+     * @param newCapacity the number of slots of the new array, a power of two
+     */
+    private void resize(int newCapacity)
+    {
+        if (newCapacity <= 0) {
+            throw new IllegalStateException("The queue can not hold more than 2^30 items");
+        }
+
+        Object[] newElements = new Object[newCapacity];
+
+        // Copy the two runs of the circular array, from the head to the end and then from the start
+        int firstRun = Math.min(this.size, this.elements.length - this.head);
+        System.arraycopy(this.elements, this.head, newElements, 0, firstRun);
+        System.arraycopy(this.elements, 0, newElements, firstRun, this.size - firstRun);
+
+        this.elements = newElements;
+        this.head = 0;
+    }
+
+    /**
+     * Overloading method for printing the ring buffer queue object
+     * @return the queue as a string
+     */
+    @Override
+    public String toString()
+    {
+        // Create a result string variable
+        StringBuilder response = new StringBuilder("(");
+
+        // Loop through every item in the queue and store its data to the result string
+        for (int i = 0; i < this.size; i++)
+        {
+            response.append(this.elements[(this.head + i) & (this.elements.length - 1)]);
+            if (i < this.size - 1) {
+                response.append(", ");
+            }
+        }
+        response.append(")");
+
+        return response.toString();
+    }
+
+    /**
+     * Iterable method to iterate the queue from the first item to the last using 'foreach' loop
+     * @return an iterator object
+     */
+    @Override
+    public Iterator<queue_t> iterator()
+    {
+        // Construct a new iterator object and return it
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size; // Determine whether there is a next item in the queue
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public queue_t next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return (queue_t) elements[(head + index++) & (elements.length - 1)];
+            }
+        };
+    }
+
+    /**
+     * Main function to test the ring buffer queue and compare it against the queuelist
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args)
+    {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(2, true);
+
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(i + 1);
+        }
+
+        System.out.println(queue + " in " + queue.getCapacity() + " slots");
+        System.out.println("Data removed is " + queue.dequeue());
+        System.out.println("Data removed is " + queue.dequeue());
+        System.out.println("Data removed is " + queue.dequeue());
+        System.out.println(queue + " in " + queue.getCapacity() + " slots");
+
+        // Simulate a breadth first search frontier: every dequeued item enqueues two more until 10^5 items are seen
+        final int numberOfItems = 100_000;
+
+        for (int round = 0; round < 3; round++)
+        {
+            long ringBufferTime = RingBufferQueue.runFrontier(new RingBufferQueue<>(), numberOfItems);
+            long queueListTime = RingBufferQueue.runFrontier(new QueueList<>(), numberOfItems);
+
+            System.out.println("Frontier of " + numberOfItems + " items: ring buffer queue in " + (ringBufferTime / 1_000) + " us, queuelist in "
+                + (queueListTime / 1_000) + " us");
+        }
+    }
+
+    /**
+     * Runs a breadth first search shaped workload on the given queue
+     * @param queue the queue to use
+     * @param numberOfItems how many items go through the queue
+     * @return the elapsed time in nanoseconds
+     */
+    private static long runFrontier(QueueListMethods<Integer> queue, int numberOfItems)
+    {
+        long startTime = System.nanoTime();
+        int enqueuedItems = 1;
+
+        queue.enqueue(0);
+        while (queue.getSize() != 0)
+        {
+            Integer item = queue.dequeue();
+
+            for (int child = 1; child <= 2 && enqueuedItems < numberOfItems; child++) {
+                queue.enqueue(2 * item + child);
+                enqueuedItems++;
+            }
+        }
+
+        return System.nanoTime() - startTime;
+    }
+}
@@ -0,0 +1,440 @@
+/* Filename: SpillingQueue.java */
+
+package DataStructures.Queues;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Random;
+
+import DataStructures.Lists.SimplyLinkedList.ElementSerializer;
+import DataStructures.Utilities.BufferCleaner;
+
+/**
+ * A class that represents a queue that can grow beyond the heap. Only a bounded head segment, which dequeue reads
+ * from, and a bounded tail segment, which enqueue writes to, are kept in memory. Whenever the tail segment fills
+ * up, its items are written to a memory-mapped segment file, and the head segment is refilled from the oldest file
+ * once it runs empty. Consumed files are kept for reuse, so a steady queue stops creating new files.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class SpillingQueue<queue_t> implements QueueListMethods<queue_t>, AutoCloseable
+{
+    /**
+     * Supporting class for a segment file, which is appended to at its write position and read from the start at its
+     * own read position
+     */
+    private static final class SpillSegment
+    {
+        private final Path file;
+        private final MappedByteBuffer buffer;  // The mapping, positioned where the next item is written
+        private final ByteBuffer readBuffer;    // A view of the mapping, positioned where the next item is read
+        private int numberOfItems; // Items written to the segment
+        private int readItems;     // Items already read back from the segment
+
+        private SpillSegment(Path file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+            this.readBuffer = buffer.duplicate();
+        }
+    }
+
+    private static final int DEFAULT_SEGMENT_ITEMS = 1 << 16;   // Default bound of the head and the tail segments
+    private static final int DEFAULT_SEGMENT_BYTES = 64 << 20;  // Default size of every segment file
+    private static final int DEFAULT_FREE_SEGMENTS = 4;         // Default number of consumed files kept for reuse
+
+    private final Path directory;
+    private final ElementSerializer<queue_t> serializer;
+    private final int segmentItems;
+    private final int segmentBytes;
+    private final int maxFreeSegments;
+
+    private RingBufferQueue<queue_t> headItems; // The oldest items, dequeued from memory
+    private RingBufferQueue<queue_t> tailItems; // The newest items, waiting to be spilled
+    private final ArrayDeque<SpillSegment> spilledSegments; // The items in between, oldest segment first
+    private final ArrayDeque<SpillSegment> freeSegments;    // Consumed segments, ready to be written again
+
+    private long spilledItems;
+    private int segmentFileCount;
+    private boolean closed;
+
+    /**
+     * Constructor of the spilling queue with the default segment sizes
+     * @param directory the directory to create the segment files in
+     * @param serializer the serializer that writes and reads the spilled items
+     */
+    public SpillingQueue(Path directory, ElementSerializer<queue_t> serializer) {
+        this(directory, serializer, SpillingQueue.DEFAULT_SEGMENT_ITEMS, SpillingQueue.DEFAULT_SEGMENT_BYTES, SpillingQueue.DEFAULT_FREE_SEGMENTS);
+    }
+
+    /**
+     * Constructor of the spilling queue
+     * @param directory the directory to create the segment files in
+     * @param serializer the serializer that writes and reads the spilled items
+     * @param segmentItems how many items the head and the tail segments hold in memory each
+     * @param segmentBytes the size of every segment file, which must fit every serialized item
+     * @param maxFreeSegments how many consumed segment files to keep for reuse
+     */
+    public SpillingQueue(Path directory, ElementSerializer<queue_t> serializer, int segmentItems, int segmentBytes, int maxFreeSegments)
+    {
+        if (segmentItems < 1 || segmentBytes < 1 || maxFreeSegments < 0) {
+            throw new IllegalArgumentException("Segment items and bytes must be positive and free segments not negative, got "
+                + segmentItems + ", " + segmentBytes + " and " + maxFreeSegments);
+        }
+
+        this.directory = directory;
+        this.serializer = serializer;
+        this.segmentItems = segmentItems;
+        this.segmentBytes = segmentBytes;
+        this.maxFreeSegments = maxFreeSegments;
+
+        this.headItems = new RingBufferQueue<>();
+        this.tailItems = new RingBufferQueue<>();
+        this.spilledSegments = new ArrayDeque<>();
+        this.freeSegments = new ArrayDeque<>();
+    }
+
+    /**
+     * Returns the size of the spilling queue
+     * @return how many elements the queue has, in memory and on disk
+     */
+    @Override
+    public int getSize() {
+        return (int) Math.min(this.getLongSize(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the size of the spilling queue, which may be larger than the biggest int
+     * @return how many elements the queue has, in memory and on disk
+     */
+    public long getLongSize() {
+        return this.headItems.getSize() + this.spilledItems + this.tailItems.getSize();
+    }
+
+    /**
+     * Returns how many items of the queue are on disk
+     * @return the number of spilled items
+     */
+    public long getSpilledSize() {
+        return this.spilledItems;
+    }
+
+    /**
+     * Returns how many segment files the queue has created so far
+     * @return the number of created segment files
+     */
+    public int getSegmentFileCount() {
+        return this.segmentFileCount;
+    }
+
+    /**
+     * Inserts new data to the end of the queue
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the data is null
+     */
+    @Override
+    public boolean enqueue(queue_t data)
+    {
+        if (this.closed) {
+            throw new IllegalStateException("The queue is closed");
+        }
+
+        // Null marks an empty queue in dequeue, so it can not be stored
+        if (data == null) {
+            return false;
+        }
+
+        // Checking if nothing waits between the head and the tail. If so the head can take the data directly
+        if (this.spilledSegments.isEmpty() && this.tailItems.getSize() == 0 && this.headItems.getSize() < this.segmentItems) {
+            return this.headItems.enqueue(data);
+        }
+
+        // Everything in the tail is spilled later, so refuse data that can never fit a segment file
+        if (this.serializer.getSerializedSize(data) > this.segmentBytes) {
+            throw new IllegalArgumentException("An item of " + this.serializer.getSerializedSize(data) + " bytes does not fit a segment of "
+                + this.segmentBytes + " bytes");
+        }
+
+        this.tailItems.enqueue(data);
+
+        if (this.tailItems.getSize() >= this.segmentItems) {
+            this.spillTail();
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the data at the beginning of the queue
+     * @return the first item of the queue, null if it is empty
+     */
+    @Override
+    public queue_t dequeue()
+    {
+        if (this.closed) {
+            throw new IllegalStateException("The queue is closed");
+        }
+
+        if (this.headItems.getSize() == 0) {
+            this.refillHead();
+        }
+
+        return this.headItems.dequeue();
+    }
+
+    /**
+     * Appends every item of the tail segment to the newest segment file, continuing in another file whenever it is full
+     */
+    private void spillTail()
+    {
+        SpillSegment segment = this.spilledSegments.peekLast();
+
+        while (this.tailItems.getSize() != 0)
+        {
+            queue_t data = this.tailItems.peek();
+
+            // Checking if there is no file or the newest one is full. If so continue in another one
+            if (segment == null || segment.buffer.remaining() < this.serializer.getSerializedSize(data)) {
+                segment = this.takeFreeSegment();
+                this.spilledSegments.addLast(segment);
+            }
+
+            this.serializer.serialize(this.tailItems.dequeue(), segment.buffer);
+            segment.numberOfItems++;
+            this.spilledItems++;
+        }
+    }
+
+    /**
+     * Fills the empty head segment with the oldest items, read from the oldest segment file or taken from the tail
+     */
+    private void refillHead()
+    {
+        // Nothing is on disk, so the tail holds the oldest items and simply becomes the head
+        if (this.spilledSegments.isEmpty())
+        {
+            RingBufferQueue<queue_t> emptyItems = this.headItems;
+            this.headItems = this.tailItems;
+            this.tailItems = emptyItems;
+            return;
+        }
+
+        SpillSegment segment = this.spilledSegments.peekFirst();
+
+        while (this.headItems.getSize() < this.segmentItems && segment.readItems < segment.numberOfItems) {
+            this.headItems.enqueue(this.serializer.deserialize(segment.readBuffer));
+            segment.readItems++;
+            this.spilledItems--;
+        }
+
+        // Checking if the segment is consumed. If so recycle it
+        if (segment.readItems == segment.numberOfItems) {
+            this.spilledSegments.pollFirst();
+            this.recycleSegment(segment);
+        }
+    }
+
+    /**
+     * Returns an empty segment to write to, reusing a consumed one if there is any
+     * @return the segment to write to
+     */
+    private SpillSegment takeFreeSegment()
+    {
+        SpillSegment segment = this.freeSegments.pollFirst();
+        if (segment != null) {
+            return segment;
+        }
+
+        Path file = null;
+        try {
+            file = Files.createTempFile(this.directory, "spill-", ".segment");
+
+            // The mapping stays valid after the channel is closed, so a segment holds no file descriptor
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.segmentBytes);
+                this.segmentFileCount++;
+
+                return new SpillSegment(file, buffer);
+            }
+        } catch (IOException e) {
+            if (file != null) {
+                try { Files.deleteIfExists(file); } catch (IOException suppressed) { e.addSuppressed(suppressed); }
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Keeps the given consumed segment for reuse, or deletes its file if enough segments are kept already
+     * @param segment the consumed segment
+     */
+    private void recycleSegment(SpillSegment segment)
+    {
+        if (this.freeSegments.size() < this.maxFreeSegments)
+        {
+            segment.buffer.clear();
+            segment.readBuffer.clear();
+            segment.numberOfItems = 0;
+            segment.readItems = 0;
+            this.freeSegments.addLast(segment);
+            return;
+        }
+
+        this.deleteSegment(segment);
+    }
+
+    /**
+     * Unmaps the given segment and deletes its file
+     * @param segment the segment to delete
+     */
+    private void deleteSegment(SpillSegment segment)
+    {
+        // Unmap right away, instead of waiting for the garbage collector to find the buffer
+        BufferCleaner.unmap(segment.buffer);
+
+        try {
+            Files.deleteIfExists(segment.file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Removes every item and deletes every segment file. The queue can not be used afterwards
+     */
+    @Override
+    public void close()
+    {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        for (SpillSegment segment : this.spilledSegments) {
+            this.deleteSegment(segment);
+        }
+        for (SpillSegment segment : this.freeSegments) {
+            this.deleteSegment(segment);
+        }
+
+        this.spilledSegments.clear();
+        this.freeSegments.clear();
+        this.headItems = new RingBufferQueue<>();
+        this.tailItems = new RingBufferQueue<>();
+        this.spilledItems = 0;
+    }
+
+    /**
+     * Main function to check the order of the spilling queue against an array deque and to measure how long it takes
+     * to fill and drain a large frontier. With the argument "ring" it measures a ring buffer queue on the same frontier
+     * instead, which keeps every item on the heap and so is expected to run out of it under -Xmx256m
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args) throws IOException
+    {
+        // Fill the queue like a large frontier, then drain it
+        final int numberOfItems = 20_000_000;
+        Integer[] items = new Integer[1 << 10];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i;
+        }
+
+        if (args.length > 0 && args[0].equals("ring"))
+        {
+            for (int round = 0; round < 2; round++)
+            {
+                long startTime = System.nanoTime();
+                RingBufferQueue<Integer> ringQueue = new RingBufferQueue<>();
+                for (int i = 0; i < numberOfItems; i++) { ringQueue.enqueue(items[i & (items.length - 1)]); }
+                while (ringQueue.dequeue() != null);
+
+                System.out.println(numberOfItems + " items: ring buffer queue " + ((System.nanoTime() - startTime) / 1_000_000) + " ms");
+            }
+            return;
+        }
+
+        ElementSerializer<Integer> integerSerializer = new ElementSerializer<>() {
+            @Override
+            public int getSerializedSize(Integer data) {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void serialize(Integer data, ByteBuffer buffer) {
+                buffer.putInt(data);
+            }
+
+            @Override
+            public Integer deserialize(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+
+        Path directory = Files.createTempDirectory("spilling-queue");
+
+        try
+        {
+            // Random bursts of enqueues and dequeues, with segments small enough to spill and recycle all the time
+            try (SpillingQueue<Integer> queue = new SpillingQueue<>(directory, integerSerializer, 64, 100, 2))
+            {
+                ArrayDeque<Integer> expected = new ArrayDeque<>();
+                Random random = new Random(42);
+                int nextValue = 0;
+
+                for (int burst = 0; burst < 5_000; burst++)
+                {
+                    int burstSize = random.nextInt(500);
+                    boolean isEnqueue = random.nextInt(10) < 6;
+
+                    for (int i = 0; i < burstSize; i++)
+                    {
+                        if (isEnqueue) {
+                            queue.enqueue(nextValue);
+                            expected.addLast(nextValue++);
+                        } else if (!Objects.equals(queue.dequeue(), expected.pollFirst())) {
+                            throw new IllegalStateException("The queue lost its order at burst " + burst);
+                        }
+                    }
+
+                    if (queue.getLongSize() != expected.size()) {
+                        throw new IllegalStateException("Size is " + queue.getLongSize() + " instead of " + expected.size());
+                    }
+                }
+
+                System.out.println("Order check passed: " + nextValue + " items, " + queue.getSegmentFileCount() + " segment files created");
+            }
+
+            for (int round = 0; round < 2; round++)
+            {
+                long startTime = System.nanoTime();
+                long spilledPeak;
+                int segmentFiles;
+                try (SpillingQueue<Integer> spillingQueue = new SpillingQueue<>(directory, integerSerializer))
+                {
+                    for (int i = 0; i < numberOfItems; i++) { spillingQueue.enqueue(items[i & (items.length - 1)]); }
+                    spilledPeak = spillingQueue.getSpilledSize();
+                    while (spillingQueue.dequeue() != null);
+                    segmentFiles = spillingQueue.getSegmentFileCount();
+                }
+                long spillingTime = System.nanoTime() - startTime;
+
+                System.out.println(numberOfItems + " items: spilling queue " + (spillingTime / 1_000_000) + " ms with " + spilledPeak + " items in "
+                    + segmentFiles + " segment files");
+            }
+        }
+        finally
+        {
+            try (var files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) { Files.deleteIfExists(file); }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+}
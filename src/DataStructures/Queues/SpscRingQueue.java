@@ -0,0 +1,326 @@
+/* Filename: SpscRingQueue.java */
+
+package DataStructures.Queues;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A class that represents a bounded queue between exactly one producer thread and one consumer thread. Each side
+ * owns its index and only publishes it with an ordered store, and each side keeps a cached copy of the other's
+ * index, which it refreshes only when the queue looks full or empty. No operation waits on the other thread.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class SpscRingQueue<queue_t> implements QueueListMethods<queue_t>
+{
+    private static final int PADDING = 8;  // Longs per cache line, so padded values never share a line
+    private static final int PRODUCER_INDEX = PADDING;
+    private static final int CONSUMER_INDEX = 3 * PADDING;
+
+    private final Object[] elements;
+    private final AtomicLongArray indices;  // The published producer and consumer indices, each on its own cache line
+    private final long[] cachedIndices;     // The producer's copy of the consumer index and the other way around
+    private final int mask;
+
+    /**
+     * Constructor of the spsc ring queue
+     * @param capacity how many items the queue holds, rounded up to a power of two
+     */
+    public SpscRingQueue(int capacity)
+    {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^30, got " + capacity);
+        }
+
+        // Round the capacity up to a power of two, so indices map to slots with a mask
+        int roundedCapacity = Integer.highestOneBit(capacity);
+        if (roundedCapacity < capacity) {
+            roundedCapacity <<= 1;
+        }
+
+        this.elements = new Object[roundedCapacity];
+        this.indices = new AtomicLongArray(4 * SpscRingQueue.PADDING);
+        this.cachedIndices = new long[4 * SpscRingQueue.PADDING];
+        this.mask = roundedCapacity - 1;
+    }
+
+    /**
+     * Returns the capacity of the spsc ring queue
+     * @return how many items the queue holds
+     */
+    public int getCapacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Returns the size of the spsc ring queue. The other thread may change it at any time, so it is only an estimate
+     * @return how many elements the queue had a moment ago
+     */
+    @Override
+    public int getSize()
+    {
+        long size = this.indices.get(SpscRingQueue.PRODUCER_INDEX) - this.indices.get(SpscRingQueue.CONSUMER_INDEX);
+        return (int) Math.max(0, Math.min(size, this.mask + 1));
+    }
+
+    /**
+     * Returns how many slots the producer can write, refreshing its copy of the consumer index only if needed
+     * @param producerIndex the current producer index
+     * @param requiredSlots how many free slots would be enough
+     * @return the number of free slots, at most the required number if the cached index was enough
+     */
+    private long freeSlots(long producerIndex, long requiredSlots)
+    {
+        long freeSlots = (this.mask + 1) - (producerIndex - this.cachedIndices[SpscRingQueue.CONSUMER_INDEX]);
+
+        if (freeSlots < requiredSlots) {
+            this.cachedIndices[SpscRingQueue.CONSUMER_INDEX] = this.indices.get(SpscRingQueue.CONSUMER_INDEX);
+            freeSlots = (this.mask + 1) - (producerIndex - this.cachedIndices[SpscRingQueue.CONSUMER_INDEX]);
+        }
+
+        return freeSlots;
+    }
+
+    /**
+     * Returns how many items the consumer can read, refreshing its copy of the producer index only if needed
+     * @param consumerIndex the current consumer index
+     * @param requiredItems how many items would be enough
+     * @return the number of available items, at most the required number if the cached index was enough
+     */
+    private long availableItems(long consumerIndex, long requiredItems)
+    {
+        long availableItems = this.cachedIndices[SpscRingQueue.PRODUCER_INDEX] - consumerIndex;
+
+        if (availableItems < requiredItems) {
+            this.cachedIndices[SpscRingQueue.PRODUCER_INDEX] = this.indices.get(SpscRingQueue.PRODUCER_INDEX);
+            availableItems = this.cachedIndices[SpscRingQueue.PRODUCER_INDEX] - consumerIndex;
+        }
+
+        return availableItems;
+    }
+
+    /**
+     * Inserts new data to the end of the queue, without waiting for room. Only the producer thread may call it
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the queue is full or the data is null
+     */
+    public boolean offer(queue_t data)
+    {
+        // Null marks an empty queue in poll, so it can not be stored
+        if (data == null) {
+            return false;
+        }
+
+        long producerIndex = this.indices.getPlain(SpscRingQueue.PRODUCER_INDEX);
+
+        if (this.freeSlots(producerIndex, 1) < 1) {
+            return false;
+        }
+
+        // Write the slot, then publish it to the consumer with an ordered store
+        this.elements[(int) (producerIndex & this.mask)] = data;
+        this.indices.lazySet(SpscRingQueue.PRODUCER_INDEX, producerIndex + 1);
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the data at the beginning of the queue, without waiting for an item. Only the consumer
+     * thread may call it
+     * @return the first item of the queue, null if it is empty
+     */
+    @SuppressWarnings("unchecked")
+    public queue_t poll()
+    {
+        long consumerIndex = this.indices.getPlain(SpscRingQueue.CONSUMER_INDEX);
+
+        if (this.availableItems(consumerIndex, 1) < 1) {
+            return null;
+        }
+
+        int slot = (int) (consumerIndex & this.mask);
+        queue_t dataToReturn = (queue_t) this.elements[slot];
+        this.elements[slot] = null; // Do not keep the removed data reachable from the array
+
+        // Hand the slot back to the producer with an ordered store
+        this.indices.lazySet(SpscRingQueue.CONSUMER_INDEX, consumerIndex + 1);
+
+        return dataToReturn;
+    }
+
+    /**
+     * Removes up to the given number of items and passes them to the given consumer, publishing the new index once
+     * for the whole batch. If the consumer throws, the items handed over so far stay removed. Only the consumer
+     * thread may call it
+     * @param consumer the action to perform on every removed item
+     * @param maxItems the most items to remove, not negative
+     * @return how many items were removed
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super queue_t> consumer, int maxItems)
+    {
+        if (maxItems < 0) {
+            throw new IllegalArgumentException("Max items can not be negative, got " + maxItems);
+        }
+
+        long consumerIndex = this.indices.getPlain(SpscRingQueue.CONSUMER_INDEX);
+        int batchSize = (int) Math.min(maxItems, this.availableItems(consumerIndex, maxItems));
+        int drainedItems = 0;
+
+        try {
+            while (drainedItems < batchSize)
+            {
+                int slot = (int) ((consumerIndex + drainedItems) & this.mask);
+                queue_t data = (queue_t) this.elements[slot];
+                this.elements[slot] = null;
+                drainedItems++; // Counted before the consumer runs, since its slot is already cleared
+
+                consumer.accept(data);
+            }
+        } finally {
+            // Hand the cleared slots back to the producer even if the consumer threw
+            if (drainedItems > 0) {
+                this.indices.lazySet(SpscRingQueue.CONSUMER_INDEX, consumerIndex + drainedItems);
+            }
+        }
+
+        return drainedItems;
+    }
+
+    /**
+     * Inserts up to the given number of items taken from the given supplier, publishing the new index once for the
+     * whole batch. It stops early if the queue is full or the supplier returns null. Only the producer thread may
+     * call it
+     * @param supplier the source of the items to insert
+     * @param maxItems the most items to insert, not negative
+     * @return how many items were inserted
+     */
+    public int fill(Supplier<? extends queue_t> supplier, int maxItems)
+    {
+        if (maxItems < 0) {
+            throw new IllegalArgumentException("Max items can not be negative, got " + maxItems);
+        }
+
+        long producerIndex = this.indices.getPlain(SpscRingQueue.PRODUCER_INDEX);
+        int batchSize = (int) Math.min(maxItems, this.freeSlots(producerIndex, maxItems));
+        int insertedItems = 0;
+
+        while (insertedItems < batchSize)
+        {
+            queue_t data = supplier.get();
+            if (data == null) {
+                break;
+            }
+
+            this.elements[(int) ((producerIndex + insertedItems) & this.mask)] = data;
+            insertedItems++;
+        }
+
+        if (insertedItems > 0) {
+            this.indices.lazySet(SpscRingQueue.PRODUCER_INDEX, producerIndex + insertedItems);
+        }
+
+        return insertedItems;
+    }
+
+    /**
+     * Inserts new data to the end of the queue, the same as offer
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the queue is full or the data is null
+     */
+    @Override
+    public boolean enqueue(queue_t data) {
+        return this.offer(data);
+    }
+
+    /**
+     * Removes and returns the data at the beginning of the queue, the same as poll
+     * @return the first item of the queue, null if it is empty
+     */
+    @Override
+    public queue_t dequeue() {
+        return this.poll();
+    }
+
+    /**
+     * Main function to measure the throughput of the spsc ring queue between two threads, one item at a time and
+     * in batches, against an array blocking queue
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        final int capacity = 1 << 14;
+        final int numberOfItems = 20_000_000;
+        final int batchSize = 256;
+        final Integer item = 1;
+
+        for (int round = 0; round < 3; round++)
+        {
+            SpscRingQueue<Integer> singleQueue = new SpscRingQueue<>(capacity);
+            long singleTime = SpscRingQueue.runHandoff(numberOfItems,
+                maxItems -> singleQueue.offer(item) ? 1 : 0,
+                maxItems -> (singleQueue.poll() != null) ? 1 : 0);
+
+            SpscRingQueue<Integer> batchQueue = new SpscRingQueue<>(capacity);
+            long batchTime = SpscRingQueue.runHandoff(numberOfItems,
+                maxItems -> batchQueue.fill(() -> item, Math.min(maxItems, batchSize)),
+                maxItems -> batchQueue.drain(data -> {}, Math.min(maxItems, batchSize)));
+
+            ArrayBlockingQueue<Integer> blockingQueue = new ArrayBlockingQueue<>(capacity);
+            long blockingTime = SpscRingQueue.runHandoff(numberOfItems,
+                maxItems -> blockingQueue.offer(item) ? 1 : 0,
+                maxItems -> (blockingQueue.poll() != null) ? 1 : 0);
+
+            System.out.println("spsc ring queue " + SpscRingQueue.opsPerSecond(numberOfItems, singleTime) + " ops/s, in batches of " + batchSize + " "
+                + SpscRingQueue.opsPerSecond(numberOfItems, batchTime) + " ops/s, array blocking queue " + SpscRingQueue.opsPerSecond(numberOfItems, blockingTime) + " ops/s");
+        }
+    }
+
+    /**
+     * Returns the throughput of a run
+     * @param numberOfItems how many items went through the queue
+     * @param elapsedTime the elapsed time in nanoseconds
+     * @return the items per second
+     */
+    private static long opsPerSecond(int numberOfItems, long elapsedTime) {
+        return (long) (numberOfItems * 1e9 / elapsedTime);
+    }
+
+    /**
+     * Moves the given number of items from a producer thread to a consumer thread
+     * @param numberOfItems how many items to move
+     * @param producer inserts at most the given number of items and returns how many it inserted
+     * @param consumer removes at most the given number of items and returns how many it removed
+     * @return the elapsed time in nanoseconds
+     */
+    private static long runHandoff(int numberOfItems, IntUnaryOperator producer, IntUnaryOperator consumer) throws InterruptedException
+    {
+        Thread producerThread = new Thread(() -> {
+            for (int sentItems = 0; sentItems < numberOfItems; )
+            {
+                int count = producer.applyAsInt(numberOfItems - sentItems);
+                if (count == 0) { Thread.yield(); } // The queue is full
+                sentItems += count;
+            }
+        });
+
+        Thread consumerThread = new Thread(() -> {
+            for (int receivedItems = 0; receivedItems < numberOfItems; )
+            {
+                int count = consumer.applyAsInt(numberOfItems - receivedItems);
+                if (count == 0) { Thread.yield(); } // The queue is empty
+                receivedItems += count;
+            }
+        });
+
+        long startTime = System.nanoTime();
+        producerThread.start(); consumerThread.start();
+        producerThread.join();  consumerThread.join();
+
+        return System.nanoTime() - startTime;
+    }
+}
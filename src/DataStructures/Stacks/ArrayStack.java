@@ -0,0 +1,235 @@
+/* Filename: ArrayStack.java */
+
+package DataStructures.Stacks;
+
+import java.util.Arrays;
+
+/**
+ * A class that represents a stack data structure stored in a growable array. Push and pop work on the end of the
+ * array, so they take amortized O(1) instead of walking a list to its last node.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class ArrayStack<stack_t> implements StackListMethods<stack_t>
+{
+    private static final int DEFAULT_CAPACITY = 16; // Default number of slots of a new stack
+
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Constructor of the array stack
+     */
+    public ArrayStack() {
+        this(ArrayStack.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor of the array stack with a custom initial capacity
+     * @param initialCapacity how many items the stack holds before it grows
+     */
+    public ArrayStack(int initialCapacity)
+    {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be positive, got " + initialCapacity);
+        }
+
+        this.elements = new Object[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the size of the array stack
+     * @return how many elements the stack has
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of slots of the array stack
+     * @return how many items the stack holds before it grows
+     */
+    public int getCapacity() {
+        return this.elements.length;
+    }
+
+    /**
+     * Makes sure the array has room for the given number of items, growing it by at least half
+     * @param requiredCapacity how many items the array must hold
+     */
+    private void ensureCapacity(int requiredCapacity)
+    {
+        if (requiredCapacity < 0) {
+            throw new IllegalStateException("The stack can not hold more than " + Integer.MAX_VALUE + " items");
+        }
+
+        if (requiredCapacity > this.elements.length) {
+            int newCapacity = Math.max(requiredCapacity, this.elements.length + (this.elements.length >> 1));
+            this.elements = Arrays.copyOf(this.elements, newCapacity);
+        }
+    }
+
+    /**
+     * Inserts new data to the top of the stack
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the data is null
+     */
+    @Override
+    public boolean push(stack_t data)
+    {
+        // Null marks an empty stack in pop, so it can not be stored
+        if (data == null) {
+            return false;
+        }
+
+        this.ensureCapacity(this.size + 1);
+        this.elements[this.size++] = data;
+
+        return true;
+    }
+
+    /**
+     * Inserts every given data to the top of the stack, in order, so the last one ends up on top
+     * @param data the data to insert
+     * @return true if every insertion was successfull, false if some data was null and skipped
+     */
+    public boolean pushAll(Iterable<? extends stack_t> data)
+    {
+        boolean allPushed = true;
+
+        for (stack_t currentData : data) {
+            allPushed &= this.push(currentData);
+        }
+
+        return allPushed;
+    }
+
+    /**
+     * Inserts every data of the given array to the top of the stack, in order, growing the array at most once
+     * @param data the data to insert
+     * @return true if every insertion was successfull, false if some data was null and skipped
+     */
+    public boolean pushAll(stack_t[] data)
+    {
+        this.ensureCapacity(this.size + data.length);
+        boolean allPushed = true;
+
+        for (stack_t currentData : data)
+        {
+            if (currentData == null) {
+                allPushed = false;
+                continue;
+            }
+            this.elements[this.size++] = currentData;
+        }
+
+        return allPushed;
+    }
+
+    /**
+     * Removes and returns the data at the top of the stack
+     * @return the last item pushed to the stack, null otherwise
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public stack_t pop()
+    {
+        // Checking if the stack is empty. If so return null
+        if (this.size == 0) {
+            return null;
+        }
+
+        stack_t dataToReturn = (stack_t) this.elements[--this.size];
+        this.elements[this.size] = null; // Do not keep the removed data reachable from the array
+
+        return dataToReturn;
+    }
+
+    /**
+     * Returns the data at the top of the stack without removing it
+     * @return the last item pushed to the stack, null otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public stack_t peek() {
+        return (this.size == 0) ? null : (stack_t) this.elements[this.size - 1];
+    }
+
+    /**
+     * Removes every item from the stack, clearing the slots so the removed data can be collected
+     */
+    public void clear() {
+        Arrays.fill(this.elements, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /**
+     * Overloading method for printing the array stack object
+     * @return the stack as a string, from the bottom to the top
+     */
+    @Override
+    public String toString()
+    {
+        // Create a result string variable
+        StringBuilder response = new StringBuilder("(");
+
+        // Loop through every item in the stack and store its data to the result string
+        for (int i = 0; i < this.size; i++)
+        {
+            response.append(this.elements[i]);
+            if (i < this.size - 1) {
+                response.append(", ");
+            }
+        }
+        response.append(")");
+
+        return response.toString();
+    }
+
+    /**
+     * Main function to test the array stack and compare it against the stacklist
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args)
+    {
+        ArrayStack<Integer> stack = new ArrayStack<>(2);
+
+        stack.pushAll(new Integer[] { 1, 2, 3, 4, 5 });
+
+        System.out.println(stack);
+        System.out.println("Data removed is " + stack.pop());
+        System.out.println("Data removed is " + stack.pop());
+        System.out.println(stack + ", top is " + stack.peek());
+        stack.clear();
+        System.out.println(stack + " after clear, " + stack.getCapacity() + " slots kept");
+
+        // Fill and drain each stack, which is the pattern of a depth first search
+        for (int numberOfItems : new int[] { 1_000, 10_000, 40_000 })
+        {
+            long arrayStackTime = ArrayStack.runFillAndDrain(new ArrayStack<>(), numberOfItems);
+            long stackListTime = ArrayStack.runFillAndDrain(new StackList<>(), numberOfItems);
+
+            System.out.println(numberOfItems + " items: array stack in " + (arrayStackTime / 1_000) + " us, stacklist in "
+                + (stackListTime / 1_000) + " us");
+        }
+    }
+
+    /**
+     * Pushes the given number of items to the stack and pops them all
+     * @param stack the stack to use
+     * @param numberOfItems how many items go through the stack
+     * @return the elapsed time in nanoseconds
+     */
+    private static long runFillAndDrain(StackListMethods<Integer> stack, int numberOfItems)
+    {
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < numberOfItems; i++) {
+            stack.push(i);
+        }
+        while (stack.pop() != null);
+
+        return System.nanoTime() - startTime;
+    }
+}
@@ -1,17 +1,12 @@
 package DataStructures.Stacks;
 
-import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
-
-/**
- * Public interface for the stack list methods
- */
-interface StackListMethods<stack_t>
-{
-    int getSize();
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
 
-    boolean push(stack_t data);
-    stack_t pop();
-}
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedList;
+import DataStructures.Lists.SimplyLinkedList.SimplyLinkedListMethods;
+import DataStructures.Utilities.TextOutput;
 
 /**
  * A class that represents a stack data structure that uses a simply linked list.
@@ -20,8 +15,10 @@ interface StackListMethods<stack_t>
  */
 public class StackList<stack_t> implements StackListMethods<stack_t>
 {
+    private static final String DEFAULT_SEPERATOR = ", "; // Default seperator character for the data printing
+
     private int size;
-    private SimplyLinkedList<stack_t> list;
+    private SimplyLinkedListMethods<stack_t> list;
 
     /**
      * Constructor of the stacklist
@@ -31,6 +28,15 @@ public class StackList<stack_t> implements StackListMethods<stack_t>
         this.list = new SimplyLinkedList<>();
     }
 
+    /**
+     * Constructor of the stacklist with a custom backing list
+     * @param list the empty list that stores the elements of the stacklist
+     */
+    public StackList(SimplyLinkedListMethods<stack_t> list) {
+        this.size = 0;
+        this.list = list;
+    }
+
     /**
      * Returns the size of the stacklist
      * @return how many elements the stacklist has
@@ -78,21 +84,60 @@ public class StackList<stack_t> implements StackListMethods<stack_t>
     @Override
     public String toString()
     {
-        // Create a result string variable
-        StringBuilder response = new StringBuilder("(");
+        // Stream the stacklist into a string
+        return TextOutput.toString(response -> this.writeTo(response, StackList.DEFAULT_SEPERATOR));
+    }
 
-        // Checking if the queuelist is empty
-        if (this.size == 0) {
-            return response.append(")").toString();
-        }
+    /**
+     * Writes the data of the stacklist to the given output, one item at a time
+     * @param out the output to append the stacklist to
+     * @param seperator a character seperator for the data printing
+     * @throws IOException if the output fails to append
+     */
+    public void writeTo(Appendable out, String seperator) throws IOException
+    {
+        out.append("(");
 
-        // Loop through every itam in the queue list and store its data to the result string
-        for (stack_t data : this.list) {
-            response.append(data).append(", ");
+        // Loop through every item in the stacklist and append its data to the output
+        Iterator<stack_t> iterator = this.list.iterator();
+
+        while (iterator.hasNext())
+        {
+            out.append(String.valueOf(iterator.next()));
+            if (iterator.hasNext()) {
+                out.append(seperator);
+            }
         }
+        out.append(")");
+    }
 
-        response.replace(response.length() - 2, response.length(), ")");
-        return response.toString();
+    /**
+     * Writes the data of the stacklist to the given writer through a buffer. The writer is flushed but not closed
+     * @param out the writer to write the stacklist to
+     * @param seperator a character seperator for the data printing
+     * @throws IOException if the writer fails to write
+     */
+    public final void writeTo(Writer out, String seperator) throws IOException
+    {
+        TextOutput.writeBuffered(out, bufferedOut -> this.writeTo(bufferedOut, seperator));
+    }
+
+    /**
+     * Writes the data of the stacklist to the given output with the default seperator
+     * @param out the output to append the stacklist to
+     * @throws IOException if the output fails to append
+     */
+    public final void writeTo(Appendable out) throws IOException {
+        this.writeTo(out, StackList.DEFAULT_SEPERATOR);
+    }
+
+    /**
+     * Writes the data of the stacklist to the given writer with the default seperator
+     * @param out the writer to write the stacklist to
+     * @throws IOException if the writer fails to write
+     */
+    public final void writeTo(Writer out) throws IOException {
+        this.writeTo(out, StackList.DEFAULT_SEPERATOR);
     }
 
     /**
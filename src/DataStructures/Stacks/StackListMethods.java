@@ -0,0 +1,14 @@
+/* Filename: StackListMethods.java */
+
+package DataStructures.Stacks;
+
+/**
+ * Public interface for the stack list methods
+ */
+public interface StackListMethods<stack_t>
+{
+    int getSize();
+
+    boolean push(stack_t data);
+    stack_t pop();
+}
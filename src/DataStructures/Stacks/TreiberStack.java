@@ -0,0 +1,473 @@
+/* Filename: TreiberStack.java */
+
+package DataStructures.Stacks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A class that represents a lock-free stack that can be shared between threads. Every push and pop swings the top
+ * node with a compare and set. When a compare and set fails because of contention, the thread tries an elimination
+ * array before it retries: a pusher leaves its node in a random slot for a while, and a popper that finds it there
+ * takes it directly, so the two operations cancel out without touching the top at all.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public class TreiberStack<stack_t> implements StackListMethods<stack_t>
+{
+    /**
+     * Supporting class for the nodes of the stack, which never change once they are pushed
+     */
+    private static final class Node<node_t>
+    {
+        private final node_t data;
+        private final Node<node_t> next;
+
+        private Node(node_t data, Node<node_t> next) {
+            this.data = data;
+            this.next = next;
+        }
+    }
+
+    private static final int DEFAULT_ELIMINATION_SLOTS = 8; // Default size of the elimination array
+    private static final int ELIMINATION_SPINS = 64;        // How long a pusher waits in a slot for a popper
+
+    private final AtomicReference<Node<stack_t>> top;
+    private final AtomicReferenceArray<Node<stack_t>> eliminationSlots; // Nodes offered by pushers to poppers
+    private final LongAdder size; // Counted per thread, so the counter is not another shared hot spot
+
+    /**
+     * Constructor of the treiber stack
+     */
+    public TreiberStack() {
+        this(TreiberStack.DEFAULT_ELIMINATION_SLOTS);
+    }
+
+    /**
+     * Constructor of the treiber stack with a custom elimination array
+     * @param eliminationSlots the size of the elimination array, zero to retry on the top only
+     */
+    public TreiberStack(int eliminationSlots)
+    {
+        if (eliminationSlots < 0) {
+            throw new IllegalArgumentException("Elimination slots can not be negative, got " + eliminationSlots);
+        }
+
+        this.top = new AtomicReference<>(null);
+        this.eliminationSlots = new AtomicReferenceArray<>(eliminationSlots);
+        this.size = new LongAdder();
+    }
+
+    /**
+     * Returns the size of the treiber stack. While other threads modify the stack it is only an estimate
+     * @return how many elements the stack has
+     */
+    @Override
+    public int getSize() {
+        return (int) Math.max(0, this.size.sum());
+    }
+
+    /**
+     * Inserts new data to the top of the stack
+     * @param data the data to insert
+     * @return true if the insertion was successfull, false if the data is null
+     */
+    @Override
+    public boolean push(stack_t data)
+    {
+        // Null marks an empty stack in pop, so it can not be stored
+        if (data == null) {
+            return false;
+        }
+
+        Node<stack_t> currentTop = this.top.get();
+
+        while (true)
+        {
+            Node<stack_t> newNode = new Node<>(data, currentTop);
+            if (this.top.compareAndSet(currentTop, newNode)) {
+                break;
+            }
+
+            // The top changed under us, so some other thread is here as well. Try to meet a popper instead
+            if (this.eliminatePush(newNode)) {
+                break;
+            }
+            currentTop = this.top.get();
+        }
+
+        this.size.increment();
+        return true;
+    }
+
+    /**
+     * Offers the given node in a random slot of the elimination array and waits a little for a popper to take it
+     * @param node the node to hand over
+     * @return true if a popper took the node, false if the push has to be retried on the top
+     */
+    private boolean eliminatePush(Node<stack_t> node)
+    {
+        int numberOfSlots = this.eliminationSlots.length();
+        if (numberOfSlots == 0) {
+            return false;
+        }
+
+        int slot = ThreadLocalRandom.current().nextInt(numberOfSlots);
+        if (!this.eliminationSlots.compareAndSet(slot, null, node)) {
+            return false; // Another pusher is waiting in this slot
+        }
+
+        for (int i = 0; i < TreiberStack.ELIMINATION_SPINS; i++) {
+            if (this.eliminationSlots.get(slot) != node) {
+                return true; // A popper took the node and emptied the slot
+            }
+            Thread.onSpinWait();
+        }
+
+        // Withdraw the offer. If that fails, a popper took the node in the meantime
+        return !this.eliminationSlots.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Removes and returns the data at the top of the stack
+     * @return the last item pushed to the stack, null otherwise
+     */
+    @Override
+    public stack_t pop()
+    {
+        while (true)
+        {
+            Node<stack_t> currentTop = this.top.get();
+
+            // Checking if the stack is empty. If so return null
+            if (currentTop == null) {
+                return null;
+            }
+
+            if (this.top.compareAndSet(currentTop, currentTop.next)) {
+                this.size.decrement();
+                return currentTop.data;
+            }
+
+            // The top changed under us, so try to take the node of a waiting pusher instead
+            Node<stack_t> eliminatedNode = this.eliminatePop();
+            if (eliminatedNode != null) {
+                this.size.decrement();
+                return eliminatedNode.data;
+            }
+        }
+    }
+
+    /**
+     * Takes the node that a pusher offers in a random slot of the elimination array, if there is one
+     * @return the node of the pusher, null if the pop has to be retried on the top
+     */
+    private Node<stack_t> eliminatePop()
+    {
+        int numberOfSlots = this.eliminationSlots.length();
+        if (numberOfSlots == 0) {
+            return null;
+        }
+
+        int slot = ThreadLocalRandom.current().nextInt(numberOfSlots);
+        Node<stack_t> offeredNode = this.eliminationSlots.get(slot);
+
+        if (offeredNode != null && this.eliminationSlots.compareAndSet(slot, offeredNode, null)) {
+            return offeredNode;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the data at the top of the stack without removing it
+     * @return the last item pushed to the stack, null otherwise
+     */
+    public stack_t peek()
+    {
+        Node<stack_t> currentTop = this.top.get();
+        return (currentTop == null) ? null : currentTop.data;
+    }
+
+    /**
+     * Overloading method for printing the treiber stack object
+     * @return the stack as a string, from the top to the bottom
+     */
+    @Override
+    public String toString()
+    {
+        // Create a result string variable
+        StringBuilder response = new StringBuilder("(");
+
+        // Loop through every node from the top and store its data to the result string
+        for (Node<stack_t> currentNode = this.top.get(); currentNode != null; currentNode = currentNode.next)
+        {
+            response.append(currentNode.data);
+            if (currentNode.next != null) {
+                response.append(", ");
+            }
+        }
+        response.append(")");
+
+        return response.toString();
+    }
+
+    /**
+     * Supporting class for one operation of a recorded history, with the time it was called and the time it returned
+     */
+    private static final class Operation
+    {
+        private final boolean isPush;
+        private final Integer value; // The pushed value, or the popped value which may be null
+        private final long startTime;
+        private final long endTime;
+
+        private Operation(boolean isPush, Integer value, long startTime, long endTime) {
+            this.isPush = isPush;
+            this.value = value;
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+    }
+
+    /**
+     * Main function to stress test the treiber stack, check its histories for linearizability and measure how it
+     * scales from 1 to 32 threads
+     * @param args some arguments for command line executions
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        TreiberStack<Integer> stack = new TreiberStack<>();
+        for (int i = 1; i <= 5; i++) {
+            stack.push(i);
+        }
+        System.out.println(stack + ", popped " + stack.pop() + ", top is " + stack.peek());
+
+        TreiberStack.runStressTest(8, 200_000);
+        System.out.println("Stress test passed: no item lost or duplicated");
+
+        TreiberStack.checkLinearizability(3, 4, 20_000);
+        System.out.println("Linearizability check passed");
+
+        final int operationsPerThread = 1_000_000;
+        for (int numberOfThreads = 1; numberOfThreads <= 32; numberOfThreads <<= 1)
+        {
+            long eliminationTime = TreiberStack.runPushPop(new TreiberStack<>(), numberOfThreads, operationsPerThread);
+            long plainTime = TreiberStack.runPushPop(new TreiberStack<>(0), numberOfThreads, operationsPerThread);
+
+            ArrayStack<Integer> lockedStack = new ArrayStack<>();
+            long lockedTime = TreiberStack.runPushPop(new StackListMethods<Integer>() {
+                public synchronized int getSize() { return lockedStack.getSize(); }
+                public synchronized boolean push(Integer data) { return lockedStack.push(data); }
+                public synchronized Integer pop() { return lockedStack.pop(); }
+            }, numberOfThreads, operationsPerThread);
+
+            long totalOperations = 2L * numberOfThreads * operationsPerThread;
+            System.out.println(numberOfThreads + " threads: with elimination " + (totalOperations * 1_000 / eliminationTime) + " ops/us, without "
+                + (totalOperations * 1_000 / plainTime) + " ops/us, synchronized array stack " + (totalOperations * 1_000 / lockedTime) + " ops/us");
+        }
+    }
+
+    /**
+     * Lets every thread push unique values and pop as many items, then checks that every value came out exactly once
+     * @param numberOfThreads how many threads to start
+     * @param operationsPerThread how many values every thread pushes
+     */
+    private static void runStressTest(int numberOfThreads, int operationsPerThread) throws InterruptedException
+    {
+        TreiberStack<Integer> stack = new TreiberStack<>(2); // Few slots, so elimination happens often
+        boolean[] seenValues = new boolean[numberOfThreads * operationsPerThread];
+        List<int[]> poppedValues = Collections.synchronizedList(new ArrayList<>());
+        Thread[] threads = new Thread[numberOfThreads];
+
+        for (int t = 0; t < numberOfThreads; t++)
+        {
+            final int firstValue = t * operationsPerThread;
+            threads[t] = new Thread(() -> {
+                int[] popped = new int[operationsPerThread];
+                int count = 0;
+
+                for (int i = 0; i < operationsPerThread; i++) {
+                    stack.push(firstValue + i);
+                    Integer value = stack.pop();
+                    if (value != null) { popped[count++] = value; }
+                }
+                poppedValues.add(Arrays.copyOf(popped, count));
+            });
+        }
+
+        for (Thread thread : threads) { thread.start(); }
+        for (Thread thread : threads) { thread.join(); }
+
+        // The items left in the stack count as popped as well
+        Integer value;
+        ArrayList<Integer> remainingValues = new ArrayList<>();
+        while ((value = stack.pop()) != null) {
+            remainingValues.add(value);
+        }
+        poppedValues.add(remainingValues.stream().mapToInt(Integer::intValue).toArray());
+
+        int numberOfValues = 0;
+        for (int[] popped : poppedValues) {
+            for (int poppedValue : popped)
+            {
+                if (seenValues[poppedValue]) {
+                    throw new IllegalStateException("Value " + poppedValue + " was popped twice");
+                }
+                seenValues[poppedValue] = true;
+                numberOfValues++;
+            }
+        }
+
+        if (numberOfValues != seenValues.length) {
+            throw new IllegalStateException((seenValues.length - numberOfValues) + " values were lost");
+        }
+    }
+
+    /**
+     * Records many short histories of concurrent pushes and pops and checks that each one can be explained by some
+     * order of the operations that respects their real time order and the behaviour of a sequential stack
+     * @param numberOfThreads how many threads run in every history
+     * @param operationsPerThread how many operations every thread runs in every history
+     * @param numberOfHistories how many histories to record and check
+     */
+    private static void checkLinearizability(int numberOfThreads, int operationsPerThread, int numberOfHistories) throws InterruptedException
+    {
+        for (int h = 0; h < numberOfHistories; h++)
+        {
+            TreiberStack<Integer> stack = new TreiberStack<>(1);
+            List<Operation> history = Collections.synchronizedList(new ArrayList<>());
+            Thread[] threads = new Thread[numberOfThreads];
+
+            for (int t = 0; t < numberOfThreads; t++)
+            {
+                final int firstValue = t * operationsPerThread;
+                threads[t] = new Thread(() -> {
+                    for (int i = 0; i < operationsPerThread; i++)
+                    {
+                        long startTime = System.nanoTime();
+                        if (ThreadLocalRandom.current().nextBoolean()) {
+                            stack.push(firstValue + i);
+                            history.add(new Operation(true, firstValue + i, startTime, System.nanoTime()));
+                        } else {
+                            Integer value = stack.pop();
+                            history.add(new Operation(false, value, startTime, System.nanoTime()));
+                        }
+                    }
+                });
+            }
+
+            for (Thread thread : threads) { thread.start(); }
+            for (Thread thread : threads) { thread.join(); }
+
+            Operation[] operations = history.toArray(new Operation[0]);
+            if (!TreiberStack.isLinearizable(operations, new boolean[operations.length], new ArrayDeque<>(), 0)) {
+                throw new IllegalStateException("History " + h + " is not linearizable");
+            }
+        }
+    }
+
+    /**
+     * Searches for an order of the remaining operations that a sequential stack could have produced
+     * @param operations the recorded operations
+     * @param done which operations are already placed in the order
+     * @param model the sequential stack after the placed operations
+     * @param numberOfDone how many operations are already placed
+     * @return true if the remaining operations can be placed, false otherwise
+     */
+    private static boolean isLinearizable(Operation[] operations, boolean[] done, ArrayDeque<Integer> model, int numberOfDone)
+    {
+        if (numberOfDone == operations.length) {
+            return true;
+        }
+
+        for (int i = 0; i < operations.length; i++)
+        {
+            if (done[i] || !TreiberStack.canGoNext(operations, done, i)) {
+                continue;
+            }
+
+            Operation operation = operations[i];
+            Integer poppedValue = null;
+
+            // Apply the operation to the sequential stack, skipping it if the stack disagrees with its result
+            if (operation.isPush) {
+                model.push(operation.value);
+            } else {
+                poppedValue = model.poll();
+                if (!Objects.equals(poppedValue, operation.value)) {
+                    if (poppedValue != null) { model.push(poppedValue); }
+                    continue;
+                }
+            }
+
+            done[i] = true;
+            if (TreiberStack.isLinearizable(operations, done, model, numberOfDone + 1)) {
+                return true;
+            }
+            done[i] = false;
+
+            // Undo the operation before trying the next candidate
+            if (operation.isPush) {
+                model.pop();
+            } else if (poppedValue != null) {
+                model.push(poppedValue);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns whether the given operation can be placed next, that is no remaining operation returned before it was
+     * called
+     * @param operations the recorded operations
+     * @param done which operations are already placed in the order
+     * @param candidate the operation to place
+     * @return true if the operation can be placed next, false otherwise
+     */
+    private static boolean canGoNext(Operation[] operations, boolean[] done, int candidate)
+    {
+        for (int i = 0; i < operations.length; i++) {
+            if (!done[i] && i != candidate && operations[i].endTime < operations[candidate].startTime) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lets every thread push and pop the given number of items in turns
+     * @param stack the stack to share
+     * @param numberOfThreads how many threads to start
+     * @param operationsPerThread how many pushes and pops every thread runs
+     * @return the elapsed time in nanoseconds
+     */
+    private static long runPushPop(StackListMethods<Integer> stack, int numberOfThreads, int operationsPerThread) throws InterruptedException
+    {
+        final Integer item = 1;
+        Thread[] threads = new Thread[numberOfThreads];
+
+        for (int t = 0; t < numberOfThreads; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < operationsPerThread; i++) {
+                    stack.push(item);
+                    stack.pop();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        for (Thread thread : threads) { thread.start(); }
+        for (Thread thread : threads) { thread.join(); }
+
+        return System.nanoTime() - startTime;
+    }
+}
@@ -0,0 +1,63 @@
+/* Filename: BufferCleaner.java */
+
+package DataStructures.Utilities;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * A class that frees direct and memory-mapped buffers right away, instead of waiting for the garbage collector to
+ * find them. The cleaner of the runtime is looked up once, and buffers are left to the garbage collector if the
+ * runtime does not allow it.
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public final class BufferCleaner
+{
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+
+    static
+    {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+
+            unsafe = unsafeField.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available, so buffers are freed by the garbage collector
+        }
+
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
+    }
+
+    /**
+     * Constructor of the buffer cleaner, which is never instantiated
+     */
+    private BufferCleaner() { }
+
+    /**
+     * Frees the memory of the given direct or mapped buffer. The buffer must not be used afterwards, and neither
+     * may any view of it
+     * @param buffer the buffer to free, not a duplicate or a slice of another buffer
+     */
+    public static void unmap(ByteBuffer buffer)
+    {
+        if (BufferCleaner.INVOKE_CLEANER == null) {
+            return;
+        }
+
+        try {
+            BufferCleaner.INVOKE_CLEANER.invoke(BufferCleaner.UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // The memory is still released once the buffer becomes unreachable
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/* Filename: TextOutput.java */
+
+package DataStructures.Utilities;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * A class that holds the shared helpers of the data structures that stream their data as text, so the buffering of
+ * a writer and the building of a string are written once
+ * @author Antonis Zikas
+ * @since 18/10/2026
+ */
+public final class TextOutput
+{
+    /**
+     * An action that streams the data of a structure into an appendable output
+     */
+    @FunctionalInterface
+    public interface AppendAction
+    {
+        /**
+         * Appends the data to the given output
+         * @param out the output to append to
+         * @throws IOException if the output fails to append
+         */
+        void appendTo(Appendable out) throws IOException;
+    }
+
+    /**
+     * Constructor of the text output, which is never instantiated
+     */
+    private TextOutput() { }
+
+    /**
+     * Returns the text that the given action appends
+     * @param action the action that streams the data
+     * @return the streamed data as a string
+     */
+    public static String toString(AppendAction action)
+    {
+        StringBuilder response = new StringBuilder();
+
+        try {
+            action.appendTo(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // A string builder never fails to append
+        }
+
+        return response.toString();
+    }
+
+    /**
+     * Runs the given action on the given writer through a buffer. The writer is flushed but not closed
+     * @param out the writer to write to
+     * @param action the action that streams the data
+     * @throws IOException if the writer fails to write
+     */
+    public static void writeBuffered(Writer out, AppendAction action) throws IOException
+    {
+        BufferedWriter bufferedOut = (out instanceof BufferedWriter) ? (BufferedWriter) out : new BufferedWriter(out);
+
+        action.appendTo(bufferedOut);
+        bufferedOut.flush();
+    }
+}